@@ -0,0 +1,131 @@
+import benchmarks.GameHotPaths;
+
+import java.util.*;
+
+/**
+ * Default package side of the benchmarks, see GameHotPaths
+ */
+public class GameHotPathsImpl implements GameHotPaths {
+    private static final List<Integer> NO_LEAD = Collections.emptyList();
+    private static final List<List<Integer>> LEADS = new ArrayList<>();
+
+    static {
+        for (int card = 0; card < CardData.NB_CARDS; card++) {
+            LEADS.add(Collections.singletonList(card));
+        }
+    }
+
+    private final Map<String, GameConfig> gameConfigs = new HashMap<>();
+    private final BiddingStrategy smartBidding;
+    private final TrickTakingStrategy smartTrickTaking;
+
+    public GameHotPathsImpl(long seed, boolean useAdditionalMelds) {
+        RuleContext rules = new RuleContext(seed, useAdditionalMelds);
+        this.smartBidding = BiddingStrategyFactory.createStrategy(BiddingStrategyFactory.SMART_BIDDING,
+                BiddingManager.BID_SELECTION_VALUE, BiddingManager.MAX_SINGLE_BID, rules, 0);
+        this.smartTrickTaking = TrickTakingStrategyFactory.createStrategy(
+                TrickTakingStrategyFactory.SMART_TRICK_TAKING, rules, 0);
+    }
+
+    @Override
+    public long[] createHands(String handShape, long seed, int count) {
+        Random random = new Random(seed);
+        long[] hands = new long[count];
+        for (int i = 0; i < count; i++) {
+            switch (handShape) {
+                case "dealt":
+                    hands[i] = dealHand(random, CardSet.FULL, 12);
+                    break;
+                case "long_suit": {
+                    // 7 cards of one suit, the rest of the 12 cards from the other suits
+                    long suit = CardSet.suitMask(random.nextInt(CardData.NB_SUITS));
+                    long hand = dealHand(random, suit, 7);
+                    hands[i] = hand | dealHand(random, CardSet.FULL & ~suit, 5);
+                    break;
+                }
+                case "meld_rich": {
+                    // A cut-throat sized hand with 10 of the 12 ace to ten cards of one suit
+                    int suitIndex = random.nextInt(CardData.NB_SUITS);
+                    long run = CardSet.EMPTY;
+                    for (Rank rank : Rank.values()) {
+                        if (rank != Rank.NINE) {
+                            run |= CardSet.kindMask(CardData.of(Suit.values()[suitIndex], rank));
+                        }
+                    }
+                    long hand = dealHand(random, run, 10);
+                    hands[i] = hand | dealHand(random, CardSet.FULL & ~hand, 5);
+                    break;
+                }
+                default:
+                    throw new IllegalArgumentException("Unknown hand shape: " + handShape);
+            }
+        }
+        return hands;
+    }
+
+    private static long dealHand(Random random, long from, int nbCards) {
+        List<Integer> cards = CardSet.toList(from);
+        Collections.shuffle(cards, random);
+        return CardSet.of(cards.subList(0, Math.min(nbCards, cards.size())));
+    }
+
+    @Override
+    public int[] createLeadCards(long[] hands, long seed) {
+        Random random = new Random(seed);
+        int[] leadCards = new int[hands.length];
+        for (int i = 0; i < hands.length; i++) {
+            long others = CardSet.FULL & ~hands[i];
+            // One position in four is a lead
+            leadCards[i] = random.nextInt(4) == 0
+                    ? CardData.NO_CARD
+                    : CardSet.get(others, random.nextInt(CardSet.size(others)));
+        }
+        return leadCards;
+    }
+
+    @Override
+    public int meldingScore(long hand, String trumpSuit, boolean useAdditionalMelds) {
+        return MeldScores.calculateMeldingScore(hand, trumpSuit, useAdditionalMelds);
+    }
+
+    @Override
+    public long validCards(long hand, int leadCard, String trumpSuit) {
+        return TrickHelper.getValidCards(hand, leadCard, trumpSuit);
+    }
+
+    @Override
+    public boolean validTrick(int playingCard, long hand, int leadCard, String trumpSuit) {
+        return TrickHelper.checkValidTrick(playingCard, hand, leadCard, trumpSuit);
+    }
+
+    @Override
+    public int trickWinner(int firstCard, int secondCard, String trumpSuit, int currentPlayerIndex) {
+        return TrickWinnerCalculator.checkWinner(firstCard, secondCard, trumpSuit, currentPlayerIndex);
+    }
+
+    @Override
+    public int smartBid(long hand, int currentBid, boolean isFirstBid) {
+        return smartBidding.calculateBid(hand, currentBid, isFirstBid);
+    }
+
+    @Override
+    public int smartTrickCard(long hand, int leadCard, String trumpSuit, long playedCards) {
+        List<Integer> playingArea = leadCard == CardData.NO_CARD ? NO_LEAD : LEADS.get(leadCard);
+        return smartTrickTaking.selectCard(hand, playingArea, trumpSuit, playedCards, 0, 0, 0);
+    }
+
+    @Override
+    public int playGame(String mode, long seed) {
+        GameConfig config = gameConfigs.computeIfAbsent(mode, GameHotPathsImpl::createGameConfig);
+        return new HeadlessPinochle(config, new RuleContext(seed, config.useAdditionalMelds())).runApp().length();
+    }
+
+    private static GameConfig createGameConfig(String mode) {
+        Properties properties = new Properties();
+        properties.setProperty("players.0.smartbids", "true");
+        properties.setProperty("mode.smarttrick", "true");
+        properties.setProperty("melds.additional", String.valueOf(!mode.equals("original")));
+        properties.setProperty("mode.cutthroat", String.valueOf(mode.equals("cutthroat")));
+        return new GameConfig(properties);
+    }
+}
@@ -0,0 +1,48 @@
+package benchmarks;
+
+/**
+ * The game classes live in the default package, which JMH benchmarks can't be in and can't import.
+ * The benchmarks call the hot paths through this interface, implemented by GameHotPathsImpl in the
+ * default package. It has a single implementation, so the JIT inlines the calls.
+ * Hands and played cards are card sets (see CardSet), cards are card ids (see CardData).
+ */
+public interface GameHotPaths {
+    int NO_CARD = -1;
+
+    static GameHotPaths create(long seed, boolean useAdditionalMelds) {
+        try {
+            return (GameHotPaths) Class.forName("GameHotPathsImpl")
+                    .getConstructor(long.class, boolean.class)
+                    .newInstance(seed, useAdditionalMelds);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot load the game hot paths", e);
+        }
+    }
+
+    /**
+     * Hands of the given shape: "dealt", "long_suit" or "meld_rich"
+     */
+    long[] createHands(String handShape, long seed, int count);
+
+    /**
+     * A lead card for every hand taken from the cards not in that hand, or NO_CARD to lead
+     */
+    int[] createLeadCards(long[] hands, long seed);
+
+    int meldingScore(long hand, String trumpSuit, boolean useAdditionalMelds);
+
+    long validCards(long hand, int leadCard, String trumpSuit);
+
+    boolean validTrick(int playingCard, long hand, int leadCard, String trumpSuit);
+
+    int trickWinner(int firstCard, int secondCard, String trumpSuit, int currentPlayerIndex);
+
+    int smartBid(long hand, int currentBid, boolean isFirstBid);
+
+    int smartTrickCard(long hand, int leadCard, String trumpSuit, long playedCards);
+
+    /**
+     * Plays a full headless game, mode is "original", "additional" or "cutthroat". Returns the log length.
+     */
+    int playGame(String mode, long seed);
+}
@@ -0,0 +1,47 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A fixed batch of hands and lead cards generated from the seed, cycled through by the benchmarks
+ * so a single lucky hand can't dominate the measurement
+ */
+@State(Scope.Thread)
+public class HandState {
+    private static final int NB_HANDS = 1024;
+    private static final String[] TRUMP_SUITS = { "S", "H", "D", "C" };
+
+    @Param({ "30008", "1" })
+    public long seed;
+
+    @Param({ "dealt", "long_suit", "meld_rich" })
+    public String handShape;
+
+    GameHotPaths hotPaths;
+    long[] hands;
+    int[] leadCards;
+    private int index = 0;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        hotPaths = GameHotPaths.create(seed, true);
+        hands = hotPaths.createHands(handShape, seed, NB_HANDS);
+        leadCards = hotPaths.createLeadCards(hands, seed);
+    }
+
+    /**
+     * Moves to the next hand, returns its index
+     */
+    int next() {
+        index = (index + 1) & (NB_HANDS - 1);
+        return index;
+    }
+
+    String trumpSuit(int handIndex) {
+        return TRUMP_SUITS[handIndex & 3];
+    }
+}
@@ -0,0 +1,41 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full smart against random headless games, the score is games per second
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HeadlessGameBenchmark extends BenchmarkSettings {
+
+    @Param({ "30008", "1" })
+    public long seed;
+
+    @Param({ "original", "additional", "cutthroat" })
+    public String mode;
+
+    private GameHotPaths hotPaths;
+    private long gameIndex = 0;
+
+    @Setup
+    public void setUp() {
+        hotPaths = GameHotPaths.create(seed, !mode.equals("original"));
+    }
+
+    @Benchmark
+    public int playGame() {
+        // Every game is dealt from its own seed, the sequence of games repeats for the same seed
+        return hotPaths.playGame(mode, seed + gameIndex++);
+    }
+}
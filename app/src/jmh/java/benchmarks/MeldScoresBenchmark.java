@@ -0,0 +1,18 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class MeldScoresBenchmark extends BenchmarkSettings {
+
+    @Benchmark
+    public int originalMelds(HandState state) {
+        int i = state.next();
+        return state.hotPaths.meldingScore(state.hands[i], state.trumpSuit(i), false);
+    }
+
+    @Benchmark
+    public int extendedMelds(HandState state) {
+        int i = state.next();
+        return state.hotPaths.meldingScore(state.hands[i], state.trumpSuit(i), true);
+    }
+}
@@ -0,0 +1,27 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class StrategyBenchmark extends BenchmarkSettings {
+
+    @Benchmark
+    public int smartFirstBid(HandState state) {
+        int i = state.next();
+        return state.hotPaths.smartBid(state.hands[i], 0, true);
+    }
+
+    @Benchmark
+    public int smartRaise(HandState state) {
+        int i = state.next();
+        return state.hotPaths.smartBid(state.hands[i], 200, false);
+    }
+
+    @Benchmark
+    public int smartSelectCard(HandState state) {
+        int i = state.next();
+        long hand = state.hands[i];
+        // The cards of the previous hand stand in for the cards played so far
+        long playedCards = state.hands[(i - 1) & (state.hands.length - 1)] & ~hand;
+        return state.hotPaths.smartTrickCard(hand, state.leadCards[i], state.trumpSuit(i), playedCards);
+    }
+}
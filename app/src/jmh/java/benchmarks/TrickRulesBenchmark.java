@@ -0,0 +1,30 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+public class TrickRulesBenchmark extends BenchmarkSettings {
+
+    @Benchmark
+    public long getValidCards(HandState state) {
+        int i = state.next();
+        return state.hotPaths.validCards(state.hands[i], state.leadCards[i], state.trumpSuit(i));
+    }
+
+    @Benchmark
+    public boolean checkValidTrick(HandState state) {
+        int i = state.next();
+        long hand = state.hands[i];
+        // Play the lowest card of the hand
+        int playingCard = Long.numberOfTrailingZeros(hand);
+        return state.hotPaths.validTrick(playingCard, hand, state.leadCards[i], state.trumpSuit(i));
+    }
+
+    @Benchmark
+    public int checkWinner(HandState state) {
+        int i = state.next();
+        int leadCard = state.leadCards[i];
+        int firstCard = leadCard == GameHotPaths.NO_CARD ? 0 : leadCard;
+        return state.hotPaths.trickWinner(firstCard, Long.numberOfTrailingZeros(state.hands[i]),
+                state.trumpSuit(i), i & 1);
+    }
+}
@@ -0,0 +1,40 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event for a BiddingStrategy.calculateBid call, its duration is the time the
+ * strategy took
+ */
+@Name("pinochle.Bid")
+@Label("Bid Decision")
+@Category({ "Pinochle", "Strategy" })
+@Description("A bidding strategy chose a raise or passed")
+@StackTrace(false)
+public class BidFlightEvent extends jdk.jfr.Event {
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Player")
+    int player;
+
+    @Label("Current Bid")
+    int currentBid;
+
+    @Label("Raise")
+    @Description("0 when passing")
+    int raise;
+
+    @Label("First Bid")
+    boolean firstBid;
+
+    void set(BiddingStrategy strategy, int player, int currentBid, int raise, boolean firstBid) {
+        this.strategy = strategy.getClass().getSimpleName();
+        this.player = player;
+        this.currentBid = currentBid;
+        this.raise = raise;
+        this.firstBid = firstBid;
+    }
+}
@@ -1,7 +1,6 @@
 import ch.aplu.jcardgame.Hand;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 /**
  * Class responsible for bidding logic
@@ -12,8 +11,9 @@ public class BiddingManager {
     // Bidding state variables
     private int currentBid = 0;
     private boolean isFirstBid = true;
-    private boolean hasHumanBid = false;
     private int humanBid = 0;
+    // The raise the human confirmed, 0 when passing
+    private final InputMailbox<Integer> humanBidInput = new InputMailbox<>();
     private boolean hasComputerPassed = false;
     private boolean hasHumanPassed = false;
     private int bidWinPlayerIndex = 0;
@@ -26,6 +26,7 @@ public class BiddingManager {
 
     // Bidding strategies
     private final BiddingStrategy computerBiddingStrategy;
+    private final LatencyHistogram computerBidLatency;
 
     // Constants
     public static final int BID_SELECTION_VALUE = 10;
@@ -38,6 +39,7 @@ public class BiddingManager {
     public BiddingManager(Pinochle gameContext, BiddingStrategy computerBiddingStrategy) {
         this.gameContext = gameContext;
         this.computerBiddingStrategy = computerBiddingStrategy;
+        this.computerBidLatency = gameContext.latencyMetrics.getStrategyCall(computerBiddingStrategy, "calculateBid");
     }
 
 
@@ -55,9 +57,8 @@ public class BiddingManager {
 
         boolean isContinueBidding = true;
         gameContext.uiManager.updateBidDisplay(-1, currentBid, 0);
-        Random rand = new Random(1);
         int playerIndex = switch (bidOrder) {
-            case RANDOM_BID -> rand.nextInt(gameContext.getNbPlayers());
+            case RANDOM_BID -> gameContext.rules.getRandom(RuleContext.BID_ORDER_STREAM, 0).nextInt(gameContext.getNbPlayers());
             case HUMAN_BID -> GameConfig.HUMAN_PLAYER_INDEX;
             default -> GameConfig.COMPUTER_PLAYER_INDEX;
         };
@@ -84,7 +85,6 @@ public class BiddingManager {
         gameContext.uiManager.initBiddingUI(new PinochleUIManager.BiddingCallbacks() {
             @Override
             public void onBidSelection() {
-                hasHumanBid = false;
                 if (humanBid >= MAX_SINGLE_BID) {
                     gameContext.uiManager.setBiddingButtonsEnabled(false);
                     gameContext.setStatus("Maximum amount of a single bid reached");
@@ -97,19 +97,16 @@ public class BiddingManager {
             @Override
             public void onBidConfirm() {
                 if(humanBid == 0) return;
-                currentBid = currentBid + humanBid;
-                hasHumanBid = true;
-                humanBid = 0;
-                gameContext.uiManager.updateBidDisplay(GameConfig.HUMAN_PLAYER_INDEX, currentBid, currentBid);
-                gameContext.setStatus("");
+                if (humanBidInput.post(humanBid)) {
+                    humanBid = 0;
+                }
             }
 
             @Override
             public void onBidPass() {
-                gameContext.uiManager.updateBidDisplay(GameConfig.HUMAN_PLAYER_INDEX, currentBid, 0);
-                humanBid = 0;
-                hasHumanPassed = true;
-                gameContext.setStatus("");
+                if (humanBidInput.post(0)) {
+                    humanBid = 0;
+                }
             }
         });
     }
@@ -121,23 +118,28 @@ public class BiddingManager {
                 bidValue = computerAutoBids.get(computerAutoBidIndex);
                 computerAutoBidIndex++;
             } else {
-                bidValue = computerBiddingStrategy.calculateBid(
-                        hands[GameConfig.COMPUTER_PLAYER_INDEX],
-                        currentBid,
-                        isFirstBid
-                );
+                long hand = TrickHelper.toCardSet(hands[GameConfig.COMPUTER_PLAYER_INDEX].getCardList());
+                BidFlightEvent event = new BidFlightEvent();
+                event.begin();
+                long startTime = System.nanoTime();
+                bidValue = computerBiddingStrategy.calculateBid(hand, currentBid, isFirstBid);
+                computerBidLatency.record(System.nanoTime() - startTime);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.set(computerBiddingStrategy, playerIndex, currentBid, bidValue, isFirstBid);
+                    event.commit();
+                }
             }
             gameContext.uiManager.updateBidDisplay(playerIndex, currentBid, currentBid + bidValue);
-            delay(gameContext.config.getThinkingTime());
+            gameContext.clock.pause(gameContext.config.getThinkingTime());
             if (bidValue == 0) {
                 hasComputerPassed = true;
-                hasHumanBid = false;
                 return;
             }
             currentBid += bidValue;
             gameContext.uiManager.updateBidDisplay(playerIndex, currentBid, 0);
-            hasHumanBid = false;
         } else {
+            humanBidInput.open();
             gameContext.uiManager.setBiddingButtonsEnabled(true);
             gameContext.uiManager.updateBidDisplay(playerIndex, currentBid, 0);
             if (gameContext.config.isAuto() && humanAutoBids != null && humanAutoBidIndex < humanAutoBids.size()) {
@@ -149,22 +151,21 @@ public class BiddingManager {
                 }
                 gameContext.uiManager.updateBidDisplay(GameConfig.HUMAN_PLAYER_INDEX, currentBid, currentBid);
             } else {
-                while (!hasHumanBid && !hasHumanPassed) delay(gameContext.config.getDelayTime());
+                int bidValue = humanBidInput.take();
+                if (bidValue == 0) {
+                    hasHumanPassed = true;
+                    gameContext.uiManager.updateBidDisplay(GameConfig.HUMAN_PLAYER_INDEX, currentBid, 0);
+                } else {
+                    currentBid += bidValue;
+                    gameContext.uiManager.updateBidDisplay(GameConfig.HUMAN_PLAYER_INDEX, currentBid, currentBid);
+                }
+                gameContext.setStatus("");
             }
-            hasHumanBid = true;
         }
         // After each bid, it is no longer the first bid
         isFirstBid = false;
     }
 
-    private void delay(int milliseconds) {
-        try {
-            Thread.sleep(milliseconds);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-    }
-
     // Getters for bidding results
     public int getCurrentBid() {
         return currentBid;
@@ -2,13 +2,13 @@
  * The bidding game state
  */
 public class BiddingState extends GameState {
-    public BiddingState(Pinochle gameContext) {
+    public BiddingState(GameContext gameContext) {
         super(gameContext);
     }
 
     @Override
     public void handle() {
-        gameContext.getBiddingManager().performBidding(gameContext.getHands());
+        gameContext.performBidding();
         gameContext.setState(new TrumpSelectionState(gameContext));
     }
 
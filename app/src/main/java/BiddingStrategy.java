@@ -1,11 +1,9 @@
-import ch.aplu.jcardgame.Hand;
-
 /**
  * Interface for bidding strategies
  */
 public interface BiddingStrategy {
     /**
-     * returns a bid value
+     * returns a bid value, the hand is a card set (see CardSet)
      */
-    int calculateBid(Hand hand, int currentBid, boolean isFirstBid);
+    int calculateBid(long hand, int currentBid, boolean isFirstBid);
 }
\ No newline at end of file
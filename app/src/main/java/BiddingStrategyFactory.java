@@ -1,4 +1,4 @@
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Factory for bidding strategies
@@ -7,13 +7,23 @@ public class BiddingStrategyFactory {
 
     public static final String SMART_BIDDING = "smart";
     public static final String RANDOM_BIDDING = "random";
+    public static final String MONTE_CARLO_BIDDING = "montecarlo";
 
-    public static BiddingStrategy createStrategy(String strategyName, int bidIncrement, int maxSingleBid) {
-
-        Random random = new Random();
-
+    /**
+     * The strategy draws from the bidding stream of its seat in the game's rule context
+     */
+    public static BiddingStrategy createStrategy(String strategyName, int bidIncrement, int maxSingleBid,
+                                                 RuleContext rules, int seat) {
+        RandomGenerator random = rules.getRandom(RuleContext.BIDDING_STREAM, seat);
         if (strategyName.equalsIgnoreCase("smart")) {
-            return new SmartBiddingStrategy(random, bidIncrement, maxSingleBid);
+            return new SmartBiddingStrategy(random, bidIncrement, maxSingleBid, rules.useAdditionalMelds());
+        }
+        if (strategyName.equalsIgnoreCase(MONTE_CARLO_BIDDING)) {
+            MonteCarloHandEvaluator evaluator = new MonteCarloHandEvaluator(rules.useAdditionalMelds(),
+                    rules.getTimeBudget(MonteCarloHandEvaluator.DEFAULT_TIME_BUDGET_MILLIS),
+                    MonteCarloHandEvaluator.DEFAULT_MAX_SAMPLES, rules.getSearchPool());
+            return new MonteCarloBiddingStrategy(random, bidIncrement, maxSingleBid, rules.useAdditionalMelds(),
+                    evaluator, MonteCarloBiddingStrategy.DEFAULT_REQUIRED_PROBABILITY);
         }
 
         return new RandomBiddingStrategy(random, bidIncrement, maxSingleBid);
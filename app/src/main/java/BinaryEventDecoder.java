@@ -0,0 +1,104 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays the games of a binary event log back into a GameEventListener, e.g. a TextLogRenderer
+ * to get the text log of every game.
+ */
+public final class BinaryEventDecoder {
+    private BinaryEventDecoder() {
+    }
+
+    /**
+     * Replays every game of an event log file, returns the number of games
+     */
+    public static int decodeFile(Path file, GameEventListener listener) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer log = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (!isEventLog(log)) {
+                throw new IOException("Not a game event log: " + file);
+            }
+            return decode(log, listener);
+        }
+    }
+
+    /**
+     * Whether the bytes start with the event log header
+     */
+    public static boolean isEventLog(ByteBuffer log) {
+        return log.remaining() >= RollingEventLogWriter.HEADER_BYTES
+                && log.getInt(log.position()) == RollingEventLogWriter.MAGIC
+                && log.getInt(log.position() + Integer.BYTES) == RollingEventLogWriter.VERSION;
+    }
+
+    /**
+     * Replays every game of an event log held in memory, header included
+     */
+    public static int decode(ByteBuffer log, GameEventListener listener) {
+        log.position(log.position() + RollingEventLogWriter.HEADER_BYTES);
+        int nbGames = 0;
+        while (log.remaining() >= Integer.BYTES) {
+            int recordBytes = log.getInt();
+            decodeGame(log.slice(log.position(), recordBytes), listener);
+            log.position(log.position() + recordBytes);
+            nbGames++;
+        }
+        return nbGames;
+    }
+
+    /**
+     * Replays one game record as written by BinaryEventEncoder
+     */
+    public static void decodeGame(ByteBuffer record, GameEventListener listener) {
+        while (record.hasRemaining()) {
+            byte type = record.get();
+            switch (type) {
+                case BinaryEventEncoder.GAME_START -> listener.onGameStart();
+                case BinaryEventEncoder.BID -> listener.onBid(record.get(), record.getInt());
+                case BinaryEventEncoder.TRUMP -> listener.onTrump(String.valueOf((char) record.get()));
+                case BinaryEventEncoder.MELD_SCORES -> listener.onMeldScores(getInts(record, record.get()));
+                case BinaryEventEncoder.INITIAL_CARDS -> listener.onInitialCards(getHands(record, record.get()));
+                case BinaryEventEncoder.ROUND -> listener.onRound(record.get());
+                case BinaryEventEncoder.CARD_PLAYED -> listener.onCardPlayed(record.get(), record.get());
+                case BinaryEventEncoder.TRICK_WON -> listener.onTrickWon(record.get());
+                case BinaryEventEncoder.GAME_END -> {
+                    List<List<Integer>> trickWinningHands = getHands(record, record.get());
+                    int[] scores = getInts(record, record.get());
+                    List<Integer> winners = getCards(record, record.get());
+                    listener.onGameEnd(trickWinningHands, scores, winners);
+                }
+                default -> throw new IllegalArgumentException("Unknown game event type " + type);
+            }
+        }
+    }
+
+    private static int[] getInts(ByteBuffer record, int count) {
+        int[] values = new int[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = record.getInt();
+        }
+        return values;
+    }
+
+    private static List<List<Integer>> getHands(ByteBuffer record, int nbHands) {
+        List<List<Integer>> hands = new ArrayList<>(nbHands);
+        for (int i = 0; i < nbHands; i++) {
+            hands.add(getCards(record, record.get()));
+        }
+        return hands;
+    }
+
+    private static List<Integer> getCards(ByteBuffer record, int count) {
+        List<Integer> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cards.add((int) record.get());
+        }
+        return cards;
+    }
+}
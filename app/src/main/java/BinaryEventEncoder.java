@@ -0,0 +1,119 @@
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Encodes the events of a game into a compact binary record: one type byte per event, one
+ * byte per card and player, four bytes per bid and score. The record is handed to the writer
+ * when the game ends. One encoder serves one game at a time.
+ */
+public class BinaryEventEncoder implements GameEventListener {
+    // Event types
+    public static final byte GAME_START = 1;
+    public static final byte BID = 2;
+    public static final byte TRUMP = 3;
+    public static final byte MELD_SCORES = 4;
+    public static final byte INITIAL_CARDS = 5;
+    public static final byte ROUND = 6;
+    public static final byte CARD_PLAYED = 7;
+    public static final byte TRICK_WON = 8;
+    public static final byte GAME_END = 9;
+
+    private final RollingEventLogWriter writer;
+    private ByteBuffer record = ByteBuffer.allocate(512);
+
+    public BinaryEventEncoder(RollingEventLogWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void onGameStart() {
+        record.clear();
+        ensureCapacity(1);
+        record.put(GAME_START);
+    }
+
+    @Override
+    public void onBid(int bidWinPlayerIndex, int bid) {
+        ensureCapacity(6);
+        record.put(BID).put((byte) bidWinPlayerIndex).putInt(bid);
+    }
+
+    @Override
+    public void onTrump(String trumpSuit) {
+        ensureCapacity(2);
+        record.put(TRUMP).put((byte) trumpSuit.charAt(0));
+    }
+
+    @Override
+    public void onMeldScores(int[] meldScores) {
+        ensureCapacity(2 + 4 * meldScores.length);
+        record.put(MELD_SCORES).put((byte) meldScores.length);
+        for (int score : meldScores) {
+            record.putInt(score);
+        }
+    }
+
+    @Override
+    public void onInitialCards(List<List<Integer>> hands) {
+        ensureCapacity(2);
+        record.put(INITIAL_CARDS).put((byte) hands.size());
+        putHands(hands);
+    }
+
+    @Override
+    public void onRound(int roundNumber) {
+        ensureCapacity(2);
+        record.put(ROUND).put((byte) roundNumber);
+    }
+
+    @Override
+    public void onCardPlayed(int player, int card) {
+        ensureCapacity(3);
+        record.put(CARD_PLAYED).put((byte) player).put((byte) card);
+    }
+
+    @Override
+    public void onTrickWon(int player) {
+        ensureCapacity(2);
+        record.put(TRICK_WON).put((byte) player);
+    }
+
+    @Override
+    public void onGameEnd(List<List<Integer>> trickWinningHands, int[] scores, List<Integer> winners) {
+        ensureCapacity(2);
+        record.put(GAME_END).put((byte) trickWinningHands.size());
+        putHands(trickWinningHands);
+        ensureCapacity(1 + 4 * scores.length + 1 + winners.size());
+        record.put((byte) scores.length);
+        for (int score : scores) {
+            record.putInt(score);
+        }
+        record.put((byte) winners.size());
+        for (int winner : winners) {
+            record.put((byte) winner);
+        }
+
+        record.flip();
+        writer.writeGame(record);
+        record.clear();
+    }
+
+    private void putHands(List<List<Integer>> hands) {
+        for (List<Integer> hand : hands) {
+            ensureCapacity(1 + hand.size());
+            record.put((byte) hand.size());
+            for (int card : hand) {
+                record.put((byte) card);
+            }
+        }
+    }
+
+    private void ensureCapacity(int nbBytes) {
+        if (record.remaining() < nbBytes) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(record.capacity() * 2, record.position() + nbBytes));
+            record.flip();
+            larger.put(record);
+            record = larger;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plain card data without any JGameGrid classes. A card is encoded as its index in the
+ * Deck order (suit ordinal * number of ranks + rank ordinal), so sorting card ids in
+ * ascending order gives the same order as Hand.SortType.SUITPRIORITY.
+ */
+public final class CardData {
+    private static final Suit[] SUITS = Suit.values();
+    private static final Rank[] RANKS = Rank.values();
+
+    public static final int NB_CARDS = SUITS.length * RANKS.length;
+    // Suits as seen by the rules, the two copies of a suit share the same short hand
+    public static final int NB_SUITS = 4;
+    public static final int NO_CARD = -1;
+
+    private static final String[] CARD_LOGS = new String[NB_CARDS];
+    private static final String[] CARD_NAMES = new String[NB_CARDS];
+
+    static {
+        for (int card = 0; card < NB_CARDS; card++) {
+            CARD_LOGS[card] = getRank(card).getCardLog() + getSuitShortHand(card);
+            CARD_NAMES[card] = getRank(card).getRankCardValue() + getSuitShortHand(card);
+        }
+    }
+
+    private CardData() {
+    }
+
+    public static int of(Suit suit, Rank rank) {
+        return suit.ordinal() * RANKS.length + rank.ordinal();
+    }
+
+    public static Suit getSuit(int card) {
+        return SUITS[card / RANKS.length];
+    }
+
+    public static Rank getRank(int card) {
+        return RANKS[card % RANKS.length];
+    }
+
+    public static String getSuitShortHand(int card) {
+        return getSuit(card).getSuitShortHand();
+    }
+
+    public static int getRankCardValue(int card) {
+        return getRank(card).getRankCardValue();
+    }
+
+    /**
+     * Suit of the card in the order S, H, D, C, the same for both copies of a suit
+     */
+    public static int getSuitIndex(int card) {
+        return (card / RANKS.length) % NB_SUITS;
+    }
+
+    /**
+     * Suit index of a short hand like "S", or -1 when it is not a suit
+     */
+    public static int getSuitIndex(String suitShortHand) {
+        if (suitShortHand == null || suitShortHand.length() != 1) {
+            return -1;
+        }
+        switch (suitShortHand.charAt(0)) {
+            case 'S': return 0;
+            case 'H': return 1;
+            case 'D': return 2;
+            case 'C': return 3;
+            default: return -1;
+        }
+    }
+
+    public static boolean isSuit(int card, String suitShortHand) {
+        return getSuitIndex(card) == getSuitIndex(suitShortHand);
+    }
+
+    /**
+     * Card as written in the game log, e.g. "13S"
+     */
+    public static String getCardLog(int card) {
+        return CARD_LOGS[card];
+    }
+
+    /**
+     * Card as used by the meld definitions, e.g. "3S"
+     */
+    public static String getCardName(int card) {
+        return CARD_NAMES[card];
+    }
+
+    /**
+     * A full pack in Deck order
+     */
+    public static List<Integer> newPack() {
+        List<Integer> pack = new ArrayList<>(NB_CARDS);
+        for (int card = 0; card < NB_CARDS; card++) {
+            pack.add(card);
+        }
+        return pack;
+    }
+}
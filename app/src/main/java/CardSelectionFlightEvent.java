@@ -0,0 +1,48 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.List;
+
+/**
+ * JDK Flight Recorder event for a TrickTakingStrategy.selectCard call, its duration is the time
+ * the strategy took. The fields are only worked out when the event is recorded.
+ */
+@Name("pinochle.CardSelection")
+@Label("Card Selection")
+@Category({ "Pinochle", "Strategy" })
+@Description("A trick taking strategy chose the card to play")
+@StackTrace(false)
+public class CardSelectionFlightEvent extends jdk.jfr.Event {
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Player")
+    int player;
+
+    @Label("Hand Size")
+    int handSize;
+
+    @Label("Candidates")
+    @Description("Valid cards the strategy could choose from")
+    int candidates;
+
+    @Label("Leading")
+    boolean leading;
+
+    @Label("Card")
+    String card;
+
+    void set(TrickTakingStrategy strategy, int player, long hand, List<Integer> playingArea,
+             String trumpSuit, int selectedCard) {
+        int leadCard = TrickHelper.getLeadCard(playingArea);
+        this.strategy = strategy.getClass().getSimpleName();
+        this.player = player;
+        this.handSize = CardSet.size(hand);
+        this.candidates = CardSet.size(TrickHelper.getValidCards(hand, leadCard, trumpSuit));
+        this.leading = leadCard == CardData.NO_CARD;
+        this.card = CardData.getCardLog(selectedCard);
+    }
+}
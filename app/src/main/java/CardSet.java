@@ -0,0 +1,141 @@
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A set of cards packed in a long: bit i is set when the card with id i (see CardData) is in the set.
+ * The double deck is 24 card kinds times 2 copies, the low 24 bits hold the first copy of each kind
+ * and the next 24 bits the second copy, so kind k has its copies at bits k and k + NB_KINDS.
+ * Iterating the bits in ascending order gives the same order as a SUITPRIORITY sorted hand.
+ */
+public final class CardSet {
+    public static final long EMPTY = 0L;
+    public static final int NB_KINDS = CardData.NB_CARDS / 2;
+    public static final long FULL = (1L << CardData.NB_CARDS) - 1;
+
+    private static final long KIND_MASK = (1L << NB_KINDS) - 1;
+    private static final long[] SUIT_MASKS = new long[CardData.NB_SUITS];
+    private static final long[] HIGHER_MASKS = new long[CardData.NB_CARDS];
+
+    static {
+        for (int card = 0; card < CardData.NB_CARDS; card++) {
+            SUIT_MASKS[CardData.getSuitIndex(card)] |= 1L << card;
+        }
+        for (int card = 0; card < CardData.NB_CARDS; card++) {
+            for (int other = 0; other < CardData.NB_CARDS; other++) {
+                if (CardData.getSuitIndex(other) == CardData.getSuitIndex(card)
+                        && CardData.getRankCardValue(other) > CardData.getRankCardValue(card)) {
+                    HIGHER_MASKS[card] |= 1L << other;
+                }
+            }
+        }
+    }
+
+    private CardSet() {
+    }
+
+    public static long add(long set, int card) {
+        return set | (1L << card);
+    }
+
+    public static long remove(long set, int card) {
+        return set & ~(1L << card);
+    }
+
+    public static boolean contains(long set, int card) {
+        return (set & (1L << card)) != 0;
+    }
+
+    public static int size(long set) {
+        return Long.bitCount(set);
+    }
+
+    public static boolean isEmpty(long set) {
+        return set == EMPTY;
+    }
+
+    public static int getKind(int card) {
+        return card % NB_KINDS;
+    }
+
+    /**
+     * Both copies of the card's kind
+     */
+    public static long kindMask(int card) {
+        int kind = getKind(card);
+        return (1L << kind) | (1L << (kind + NB_KINDS));
+    }
+
+    /**
+     * Number of copies (0, 1 or 2) of a card kind in the set
+     */
+    public static int count(long set, int kind) {
+        return (int) (((set >>> kind) & 1) + ((set >>> (kind + NB_KINDS)) & 1));
+    }
+
+    /**
+     * Kinds with at least one copy in the set, as a 24 bit mask
+     */
+    public static long kindsAtLeastOne(long set) {
+        return (set | (set >>> NB_KINDS)) & KIND_MASK;
+    }
+
+    /**
+     * Kinds with both copies in the set, as a 24 bit mask
+     */
+    public static long kindsBoth(long set) {
+        return set & (set >>> NB_KINDS) & KIND_MASK;
+    }
+
+    /**
+     * All cards (both copies) of a suit, indexed by CardData.getSuitIndex
+     */
+    public static long suitMask(int suitIndex) {
+        return SUIT_MASKS[suitIndex];
+    }
+
+    public static long suitMask(String suitShortHand) {
+        int suitIndex = CardData.getSuitIndex(suitShortHand);
+        return suitIndex < 0 ? EMPTY : SUIT_MASKS[suitIndex];
+    }
+
+    /**
+     * All cards of the same suit as the given card with a higher rank
+     */
+    public static long higherMask(int card) {
+        return HIGHER_MASKS[card];
+    }
+
+    /**
+     * Lowest card id in the set, or NO_CARD when empty
+     */
+    public static int first(long set) {
+        return set == EMPTY ? CardData.NO_CARD : Long.numberOfTrailingZeros(set);
+    }
+
+    /**
+     * The index-th card of the set in ascending order
+     */
+    public static int get(long set, int index) {
+        for (int i = 0; i < index; i++) {
+            set &= set - 1;
+        }
+        return first(set);
+    }
+
+    public static long of(Collection<Integer> cards) {
+        long set = EMPTY;
+        for (int card : cards) {
+            set = add(set, card);
+        }
+        return set;
+    }
+
+    public static List<Integer> toList(long set) {
+        List<Integer> cards = new ArrayList<>(size(set));
+        for (long remaining = set; remaining != EMPTY; remaining &= remaining - 1) {
+            cards.add(Long.numberOfTrailingZeros(remaining));
+        }
+        return cards;
+    }
+}
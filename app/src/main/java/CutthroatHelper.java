@@ -0,0 +1,64 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Cutthroat decisions on plain card data, shared by the GUI game and the headless engine
+ */
+public class CutthroatHelper {
+
+    /**
+     * Chooses the cards a computer player discards to get back down to the final hand size
+     */
+    public static List<Integer> selectCardsToDiscard(HandProfile profile, String trumpSuit, int finalHandSize) {
+        // Non trump suits by count (ascending) to discard from least represented suits first
+        int trumpIndex = CardData.getSuitIndex(trumpSuit);
+        List<Integer> suitsToDiscard = new ArrayList<>();
+        for (int suitIndex : HandProfile.SUIT_ORDER) {
+            if (suitIndex != trumpIndex && profile.getSuitCount(suitIndex) > 0) {
+                suitsToDiscard.add(suitIndex);
+            }
+        }
+        suitsToDiscard.sort(Comparator.comparingInt(profile::getSuitCount));
+
+        int cardsToDiscard = CardSet.size(profile.getHand()) - finalHandSize;
+        List<Integer> cardsToRemove = new ArrayList<>();
+
+        // Discard cards from suits with fewer cards first
+        for (int suitIndex : suitsToDiscard) {
+            // Sort by value (ascending) to discard lower value cards first
+            List<Integer> suitCards = CardSet.toList(profile.getHand() & CardSet.suitMask(suitIndex));
+            suitCards.sort(Comparator.comparingInt(CardData::getRankCardValue));
+
+            for (int card : suitCards) {
+                if (cardsToRemove.size() < cardsToDiscard) {
+                    cardsToRemove.add(card);
+                } else {
+                    break;
+                }
+            }
+            if (cardsToRemove.size() >= cardsToDiscard) {
+                break;
+            }
+        }
+
+        return cardsToRemove;
+    }
+
+    /**
+     * Chooses the cards to discard with CutthroatKeepSearch, the keep with the best meld and trick
+     * strength found within the time budget (RuleContext.NO_TIME_BUDGET for the best keep), starting
+     * from the suit count choice above
+     */
+    public static List<Integer> searchCardsToDiscard(HandProfile profile, String trumpSuit, int finalHandSize,
+                                                     long timeBudgetMillis, ForkJoinPool pool) {
+        long hand = profile.getHand();
+        long initialKeep = hand & ~CardSet.of(selectCardsToDiscard(profile, trumpSuit, finalHandSize));
+        // The suit count choice keeps too many cards when the trumps alone are more than the hand
+        while (CardSet.size(initialKeep) > finalHandSize) {
+            initialKeep &= initialKeep - 1;
+        }
+        long keep = new CutthroatKeepSearch(trumpSuit, profile.useAdditionalMelds(), timeBudgetMillis, pool)
+                .selectKeep(hand, finalHandSize, initialKeep);
+        return CardSet.toList(hand & ~keep);
+    }
+}
@@ -0,0 +1,228 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Chooses the cards to keep after the cutthroat draw by branch and bound over the possible keeps.
+ * A keep is worth its meld (MeldTemplate.score) plus an additive trick strength estimate: the
+ * points of the cards with a bonus for trumps and side suit aces. Both copies of a card kind
+ * play the same, so the search decides how many copies of every kind to keep, strongest kinds
+ * first, and cuts a branch when its meld upper bound plus its best possible trick strength
+ * can't beat the best keep found. The first levels are split into tasks run on a thread pool.
+ * When the time budget runs out the best keep found so far is returned, and the search starts
+ * from a given keep so there always is one; without time budget (RuleContext.NO_TIME_BUDGET) the
+ * best keep is always found. Without a pool the search runs on the calling thread, for callers
+ * that already spread their searches over the threads.
+ */
+public class CutthroatKeepSearch {
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 200;
+
+    static final int TRUMP_STRENGTH = 10;
+    static final int ACE_STRENGTH = 5;
+
+    // Levels expanded before handing subtrees to the pool, and how often to check the deadline
+    private static final int MIN_TASKS_PER_THREAD = 4;
+    private static final int DEADLINE_CHECK_NODES = 1024;
+
+    private final MeldTemplate meldTemplate;
+    private final int[] cardStrengths = new int[CardData.NB_CARDS];
+    private final long timeBudgetMillis;
+    private final ForkJoinPool pool;
+
+    public CutthroatKeepSearch(String trumpSuit, boolean useAdditionalMelds) {
+        this(trumpSuit, useAdditionalMelds, DEFAULT_TIME_BUDGET_MILLIS, ForkJoinPool.commonPool());
+    }
+
+    public CutthroatKeepSearch(String trumpSuit, boolean useAdditionalMelds, long timeBudgetMillis, ForkJoinPool pool) {
+        this.meldTemplate = MeldRegistry.getTemplate(useAdditionalMelds, trumpSuit);
+        int trumpIndex = CardData.getSuitIndex(trumpSuit);
+        for (int card = 0; card < CardData.NB_CARDS; card++) {
+            int strength = TrickHelper.getCardScore(card, trumpSuit);
+            if (CardData.getSuitIndex(card) == trumpIndex) {
+                strength += TRUMP_STRENGTH;
+            } else if (CardData.getRank(card) == Rank.ACE) {
+                strength += ACE_STRENGTH;
+            }
+            cardStrengths[card] = strength;
+        }
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.pool = pool;
+    }
+
+    /**
+     * Meld plus trick strength of a keep, the value the search maximises
+     */
+    public int evaluate(long keep) {
+        return meldTemplate.score(keep) + getTrickStrength(keep);
+    }
+
+    public int getTrickStrength(long cards) {
+        int strength = 0;
+        for (; cards != CardSet.EMPTY; cards &= cards - 1) {
+            strength += cardStrengths[CardSet.first(cards)];
+        }
+        return strength;
+    }
+
+    /**
+     * The best keep of the given size found within the time budget, starting from a keep of
+     * that size taken from the cards
+     */
+    public long selectKeep(long cards, int keepSize, long initialKeep) {
+        return selectKeep(cards, keepSize, initialKeep, RuleContext.getDeadline(timeBudgetMillis));
+    }
+
+    /**
+     * The best keep found before the deadline (System.nanoTime)
+     */
+    long selectKeep(long cards, int keepSize, long initialKeep, long deadline) {
+        if (CardSet.size(cards) <= keepSize) {
+            return cards;
+        }
+        Search search = new Search(cards, keepSize, deadline);
+        search.offer(evaluate(initialKeep), initialKeep);
+        if (pool == null) {
+            search.run(0, CardSet.EMPTY, 0);
+            return search.bestKeep;
+        }
+
+        // Expand the first levels breadth first until there are enough subtrees for the threads
+        List<long[]> frontier = new ArrayList<>();
+        frontier.add(new long[] { 0, CardSet.EMPTY });
+        int level = 0;
+        int minTasks = Math.max(1, pool.getParallelism()) * MIN_TASKS_PER_THREAD;
+        while (frontier.size() < minTasks && level < search.kinds.length) {
+            List<long[]> next = new ArrayList<>();
+            for (long[] node : frontier) {
+                int nbKept = (int) node[0];
+                for (int take = search.maxTake(level, nbKept); take >= 0; take--) {
+                    next.add(new long[] { nbKept + take, node[1] | search.copies(level, take) });
+                }
+            }
+            frontier = next;
+            level++;
+        }
+
+        int startLevel = level;
+        List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        for (long[] node : frontier) {
+            tasks.add(pool.submit(() -> search.run(startLevel, node[1], (int) node[0])));
+        }
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+        return search.bestKeep;
+    }
+
+    /**
+     * One keep selection, searched concurrently by several threads sharing the best keep
+     */
+    private final class Search {
+        private final int keepSize;
+        private final long deadline;
+        // Kinds in the hand from the strongest card down, with their cards and strength
+        private final int[] kinds;
+        private final long[] kindCards;
+        private final int[] kindStrengths;
+        // Cards of the kinds from the index on, and the slot their first copy takes in strength order
+        private final long[] remainingCards;
+        private final int[] firstSlots;
+        private final int[] slotStrengthSums;
+
+        private final AtomicLong bestValue = new AtomicLong(Long.MIN_VALUE);
+        private long bestKeep = CardSet.EMPTY;
+        private volatile boolean isTimeUp = false;
+
+        private Search(long cards, int keepSize, long deadline) {
+            this.keepSize = keepSize;
+            this.deadline = deadline;
+
+            List<Integer> presentKinds = new ArrayList<>();
+            for (int kind = 0; kind < CardSet.NB_KINDS; kind++) {
+                if (CardSet.count(cards, kind) > 0) {
+                    presentKinds.add(kind);
+                }
+            }
+            presentKinds.sort((a, b) -> cardStrengths[b] != cardStrengths[a]
+                    ? Integer.compare(cardStrengths[b], cardStrengths[a]) : Integer.compare(a, b));
+
+            int nbKinds = presentKinds.size();
+            kinds = new int[nbKinds];
+            kindCards = new long[nbKinds];
+            kindStrengths = new int[nbKinds];
+            remainingCards = new long[nbKinds + 1];
+            firstSlots = new int[nbKinds + 1];
+            slotStrengthSums = new int[CardSet.size(cards) + 1];
+            for (int i = 0; i < nbKinds; i++) {
+                kinds[i] = presentKinds.get(i);
+                kindCards[i] = cards & CardSet.kindMask(kinds[i]);
+                kindStrengths[i] = cardStrengths[kinds[i]];
+                firstSlots[i + 1] = firstSlots[i] + CardSet.size(kindCards[i]);
+                for (int slot = firstSlots[i]; slot < firstSlots[i + 1]; slot++) {
+                    slotStrengthSums[slot + 1] = slotStrengthSums[slot] + kindStrengths[i];
+                }
+            }
+            for (int i = nbKinds - 1; i >= 0; i--) {
+                remainingCards[i] = remainingCards[i + 1] | kindCards[i];
+            }
+        }
+
+        int maxTake(int level, int nbKept) {
+            return Math.min(CardSet.size(kindCards[level]), keepSize - nbKept);
+        }
+
+        long copies(int level, int take) {
+            long cards = kindCards[level];
+            return take == 0 ? CardSet.EMPTY : take == 1 ? cards & -cards : cards;
+        }
+
+        void run(int level, long keep, int nbKept) {
+            search(level, keep, nbKept, getTrickStrength(keep), new long[1]);
+        }
+
+        private void search(int level, long keep, int nbKept, int trickStrength, long[] nbNodes) {
+            if (isTimeUp || (++nbNodes[0] % DEADLINE_CHECK_NODES == 0 && checkTimeUp())) {
+                return;
+            }
+            if (nbKept == keepSize) {
+                offer(meldTemplate.score(keep) + trickStrength, keep);
+                return;
+            }
+            int slotsLeft = keepSize - nbKept;
+            int firstSlot = firstSlots[level];
+            if (level == kinds.length || firstSlots[kinds.length] - firstSlot < slotsLeft) {
+                return;
+            }
+
+            // The strongest cards left fill the remaining slots and every possible meld is made
+            int bound = meldTemplate.upperBound(keep | remainingCards[level]) + trickStrength
+                    + slotStrengthSums[firstSlot + slotsLeft] - slotStrengthSums[firstSlot];
+            // Equal values go on, the tie break on the keep keeps the result independent of scheduling
+            if (bound < bestValue.get()) {
+                return;
+            }
+
+            for (int take = maxTake(level, nbKept); take >= 0; take--) {
+                search(level + 1, keep | copies(level, take), nbKept + take,
+                        trickStrength + take * kindStrengths[level], nbNodes);
+            }
+        }
+
+        private boolean checkTimeUp() {
+            if (System.nanoTime() >= deadline) {
+                isTimeUp = true;
+            }
+            return isTimeUp;
+        }
+
+        synchronized void offer(int value, long keep) {
+            long best = bestValue.get();
+            if (value > best || value == best && Long.compareUnsigned(keep, bestKeep) < 0) {
+                bestKeep = keep;
+                bestValue.set(value);
+            }
+        }
+    }
+}
@@ -13,10 +13,12 @@ public class CutthroatManager {
     private Hand[] faceUpCards;
     private Card selectedStockpileCard = null;
     private boolean hasSelectedStockpileCard = false;
+    private final InputMailbox<Integer> stockpileCardInput = new InputMailbox<>();
 
     // Card selection phase variables
     private boolean isSelectingFinalCards = false;
     private Set<Card> selectedCards = new HashSet<>();
+    private final InputMailbox<Set<Card>> finalCardsInput = new InputMailbox<>();
 
     // Cut throat extra cards
     private int computerExtraCardIndex = 0;
@@ -51,7 +53,7 @@ public class CutthroatManager {
 
     public void performCutThroatMode(Hand[] hands, String trumpSuit, int bidWinPlayerIndex, int handWidth) {
         addExtraCardsToHands(hands);
-        drawStockpileCards(hands, handWidth);
+        drawStockpileCards(hands, trumpSuit, handWidth);
         selectFinalCards(hands, trumpSuit, bidWinPlayerIndex, handWidth);
         gameContext.refresh();
     }
@@ -76,7 +78,7 @@ public class CutthroatManager {
         }
     }
 
-    private void drawStockpileCards(Hand[] hands, int handWidth) {
+    private void drawStockpileCards(Hand[] hands, String trumpSuit, int handWidth) {
         System.out.println("Stockpile size: " + stockpile.getNumberOfCards());
 
         // Draw 2 face-up cards from stockpile
@@ -87,7 +89,7 @@ public class CutthroatManager {
         }
 
         gameContext.uiManager.setupStockpileDisplay(faceUpCards);
-        showStockpileSelection(hands);
+        showStockpileSelection(hands, trumpSuit);
 
         // Distribute remaining stockpile cards alternately (bid winner first)
         int currentPlayer = gameContext.getBidWinPlayerIndex();
@@ -103,7 +105,7 @@ public class CutthroatManager {
         }
     }
 
-    private void showStockpileSelection(Hand[] hands) {
+    private void showStockpileSelection(Hand[] hands, String trumpSuit) {
         int bidWinPlayerIndex = gameContext.getBidWinPlayerIndex();
 
         // Display face-up cards
@@ -116,20 +118,19 @@ public class CutthroatManager {
 
         if (bidWinPlayerIndex == HUMAN_PLAYER_INDEX && !gameContext.config.isAuto()) {
             // Human player selection (only in non-auto mode)
+            stockpileCardInput.open();
             gameContext.uiManager.initCutthroatUI(cardIndex -> {
                 if (!faceUpCards[cardIndex].isEmpty()) {
-                    selectedStockpileCard = faceUpCards[cardIndex].getCardList().get(0);
-                    hasSelectedStockpileCard = true;
-                    System.out.println("Selected stockpile card: " + getCardName(selectedStockpileCard));
+                    stockpileCardInput.post(cardIndex);
                 }
             });
-            while (!hasSelectedStockpileCard) {
-                gameContext.delay(gameContext.config.getDelayTime());
-            }
+            selectedStockpileCard = faceUpCards[stockpileCardInput.take()].getCardList().get(0);
+            hasSelectedStockpileCard = true;
+            System.out.println("Selected stockpile card: " + getCardName(selectedStockpileCard));
             gameContext.uiManager.removeCutthroatUI();
         } else {
             // Computer player or auto mode selection
-            handleComputerStockpileSelection();
+            handleComputerStockpileSelection(hands[bidWinPlayerIndex], trumpSuit);
         }
 
         // Add selected card to bid winner's hand
@@ -157,7 +158,7 @@ public class CutthroatManager {
         }
     }
 
-    private void handleComputerStockpileSelection() {
+    private void handleComputerStockpileSelection(Hand bidWinnerHand, String trumpSuit) {
         if (gameContext.config.isAuto()) {
             List<String> computerExtraCards = gameContext.config.getPlayer0ExtraCards();
             if (computerExtraCardIndex < computerExtraCards.size()) {
@@ -178,6 +179,22 @@ public class CutthroatManager {
             }
         }
 
+        if (gameContext.config.isSmartDiscardMode() && !faceUpCards[0].isEmpty() && !faceUpCards[1].isEmpty()) {
+            // Simulate the rest of the draw and the final keep for both cards
+            List<Integer> faceUpCardIds = List.of(TrickHelper.toCardId(faceUpCards[0].getCardList().get(0)),
+                    TrickHelper.toCardId(faceUpCards[1].getCardList().get(0)));
+            long seed = gameContext.rules.getRandom(RuleContext.CUTTHROAT_STREAM, gameContext.getBidWinPlayerIndex()).nextLong();
+            RuleContext rules = gameContext.rules;
+            StockpilePickSimulator simulator = new StockpilePickSimulator(trumpSuit, rules.useAdditionalMelds(),
+                    rules.getTimeBudget(StockpilePickSimulator.DEFAULT_TIME_BUDGET_MILLIS),
+                    StockpilePickSimulator.DEFAULT_MAX_SAMPLES, rules.getSearchPool());
+            int selectedIndex = simulator.selectFaceUpCard(
+                    TrickHelper.toCardSet(bidWinnerHand.getCardList()), faceUpCardIds, stockpile.getNumberOfCards(), 12, seed);
+            selectedStockpileCard = faceUpCards[selectedIndex].getCardList().get(0);
+            hasSelectedStockpileCard = true;
+            return;
+        }
+
         // Default: choose first available card
         if (!faceUpCards[0].isEmpty()) {
             selectedStockpileCard = faceUpCards[0].getCardList().get(0);
@@ -223,14 +240,13 @@ public class CutthroatManager {
             // Manual selection
             isSelectingFinalCards = true;
             selectedCards.clear();
+            finalCardsInput.open();
 
             gameContext.uiManager.setupExpandedHandLayout(humanHand, HUMAN_PLAYER_INDEX, handWidth);
             gameContext.uiManager.initFinalCardSelectionUI(this::finalizeFinalCardSelection);
             humanHand.setTouchEnabled(true);
 
-            while (isSelectingFinalCards) {
-                gameContext.delay(gameContext.config.getDelayTime());
-            }
+            keepFinalCards(humanHand, finalCardsInput.take());
             gameContext.uiManager.removeFinalCardSelectionUI();
             humanHand.setTouchEnabled(false);
             gameContext.refresh();
@@ -241,77 +257,37 @@ public class CutthroatManager {
     }
 
     private void finalizeFinalCardSelection() {
-        Hand humanHand = gameContext.getHands()[HUMAN_PLAYER_INDEX];
-        if (selectedCards.size() == 12) {
-            // Remove unselected cards
-            List<Card> allCards = new ArrayList<>(humanHand.getCardList());
-            for (Card card : allCards) {
-                if (!selectedCards.contains(card)) {
-                    card.removeFromHand(false);
-                }
-            }
-            // Reset card visuals
-            for (Card card : selectedCards) {
-                card.setVerso(false);
-            }
+        if (selectedCards.size() == 12 && finalCardsInput.post(new HashSet<>(selectedCards))) {
             isSelectingFinalCards = false;
         }
     }
 
-    private void handleComputerFinalCardSelection(Hand playerHand, String trumpSuit) {
-        List<Card> allCards = new ArrayList<>(playerHand.getCardList());
-        Map<String, List<Card>> suitGroups = new HashMap<>();
-
-        // Group cards by suit
+    private void keepFinalCards(Hand humanHand, Set<Card> finalCards) {
+        // Remove unselected cards
+        List<Card> allCards = new ArrayList<>(humanHand.getCardList());
         for (Card card : allCards) {
-            String suitKey = ((Suit) card.getSuit()).getSuitShortHand();
-            suitGroups.computeIfAbsent(suitKey, k -> new ArrayList<>()).add(card);
-        }
-
-        // Count cards in each suit (excluding trump)
-        Map<String, Integer> nonTrumpSuitCounts = new HashMap<>();
-        for (Map.Entry<String, List<Card>> entry : suitGroups.entrySet()) {
-            if (!entry.getKey().equals(trumpSuit)) {
-                nonTrumpSuitCounts.put(entry.getKey(), entry.getValue().size());
+            if (!finalCards.contains(card)) {
+                card.removeFromHand(false);
             }
         }
-
-        // Sort suits by count (ascending) to discard from least represented suits first
-        List<String> suitsToDiscard = nonTrumpSuitCounts.entrySet().stream()
-                .sorted(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .toList();
-
-        int cardsToDiscard = allCards.size() - 12;
-        List<Card> cardsToRemove = new ArrayList<>();
-
-        // Discard cards from suits with fewer cards first
-        for (String suit : suitsToDiscard) {
-            List<Card> suitCards = suitGroups.get(suit);
-            if (suitCards != null) {
-                // Sort by value (ascending) to discard lower value cards first
-                suitCards.sort((a, b) -> {
-                    Rank rankA = (Rank) a.getRank();
-                    Rank rankB = (Rank) b.getRank();
-                    return Integer.compare(rankA.getRankCardValue(), rankB.getRankCardValue());
-                });
-
-                for (Card card : suitCards) {
-                    if (cardsToRemove.size() < cardsToDiscard) {
-                        cardsToRemove.add(card);
-                    } else {
-                        break;
-                    }
-                }
-                if (cardsToRemove.size() >= cardsToDiscard) {
-                    break;
-                }
-            }
+        // Reset card visuals
+        for (Card card : finalCards) {
+            card.setVerso(false);
         }
+    }
+
+    private void handleComputerFinalCardSelection(Hand playerHand, String trumpSuit) {
+        HandProfile profile = new HandProfile(TrickHelper.toCardSet(playerHand.getCardList()),
+                gameContext.rules.useAdditionalMelds());
+        List<Integer> cardsToRemove = gameContext.config.isSmartDiscardMode()
+                ? CutthroatHelper.searchCardsToDiscard(profile, trumpSuit, 12,
+                        gameContext.rules.getTimeBudget(CutthroatKeepSearch.DEFAULT_TIME_BUDGET_MILLIS),
+                        gameContext.rules.getSearchPool())
+                : CutthroatHelper.selectCardsToDiscard(profile, trumpSuit, 12);
 
         // Remove selected cards
-        for (Card card : cardsToRemove) {
-            card.removeFromHand(false);
+        for (int cardId : cardsToRemove) {
+            TrickHelper.findCard(playerHand.getCardList(), cardId).removeFromHand(false);
         }
 
         playerHand.sort(Hand.SortType.SUITPRIORITY, false);
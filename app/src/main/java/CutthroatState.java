@@ -3,7 +3,7 @@
  */
 public class CutthroatState extends GameState {
 
-    public CutthroatState(Pinochle gameContext) {
+    public CutthroatState(GameContext gameContext) {
         super(gameContext);
     }
 
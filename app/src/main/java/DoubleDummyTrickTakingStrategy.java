@@ -0,0 +1,291 @@
+import java.util.*;
+
+/**
+ * Plays the remaining tricks perfectly with both hands open: an alpha-beta search over the
+ * follow/beat/trump rules that maximises the trick points of the player, with a transposition
+ * table. The engine shows the opponent's hand with setOpponentHand before every decision.
+ * When the opponent's hand is unknown or a search runs out of its time budget, the card of the
+ * smart heuristic strategy is played instead.
+ */
+public class DoubleDummyTrickTakingStrategy implements TrickTakingStrategy {
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 2000;
+    private static final int DEFAULT_TABLE_BITS = 18;
+    private static final int NODES_BETWEEN_CLOCK_CHECKS = 4096;
+
+    private static final long KIND_MASK = (1L << CardSet.NB_KINDS) - 1;
+    private static final int MAX_PLIES = CardData.NB_CARDS;
+
+    // Bound types of the transposition table entries
+    private static final int EXACT = 0;
+    private static final int LOWER = 1;
+    private static final int UPPER = 2;
+
+    private final TrickTakingStrategy fallback = new SmartTrickTakingStrategy();
+    private final long timeBudgetNanos;
+
+    // Transposition table, key of the position in two longs and the packed value, bound and best move
+    private final int tableMask;
+    private final long[] tableKeys;
+    private final long[] tableHands;
+    private final int[] tableEntries;
+    private String tableTrumpSuit = null;
+
+    // Search state
+    private final int[][] moves = new int[MAX_PLIES][CardSet.NB_KINDS];
+    private final int[][] moveOrder = new int[MAX_PLIES][CardSet.NB_KINDS];
+    private final int[] cardScores = new int[CardData.NB_CARDS];
+    private String trumpSuit;
+    private long opponentHand = CardSet.EMPTY;
+    private long deadline;
+    private long nodes;
+    private boolean aborted;
+    private int rootBestKind;
+
+    public DoubleDummyTrickTakingStrategy() {
+        this(DEFAULT_TIME_BUDGET_MILLIS, DEFAULT_TABLE_BITS);
+    }
+
+    /**
+     * tableBits is the log2 of the number of transposition table entries
+     */
+    public DoubleDummyTrickTakingStrategy(long timeBudgetMillis, int tableBits) {
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+        this.tableMask = (1 << tableBits) - 1;
+        this.tableKeys = new long[1 << tableBits];
+        this.tableHands = new long[1 << tableBits];
+        this.tableEntries = new int[1 << tableBits];
+    }
+
+    /**
+     * The cards the opponent holds now, not counting a card already in the playing area
+     */
+    public void setOpponentHand(long opponentHand) {
+        this.opponentHand = opponentHand;
+    }
+
+    @Override
+    public int selectCard(long playerHand, List<Integer> playingAreaCards, String trumpSuit,
+                          long playedCards, int playerIndex, int bidWinnerIndex, int currentBid) {
+        int leadCard = TrickHelper.getLeadCard(playingAreaCards);
+        int solved = solve(playerHand, opponentHand, leadCard, trumpSuit);
+        if (solved == CardData.NO_CARD) {
+            return fallback.selectCard(playerHand, playingAreaCards, trumpSuit, playedCards,
+                    playerIndex, bidWinnerIndex, currentBid);
+        }
+        return solved;
+    }
+
+    /**
+     * Best card of the player for the position, or NO_CARD when the hands don't make a position
+     * (the opponent's hand is unknown) or the search didn't finish in time
+     */
+    public int solve(long playerHand, long opponentHand, int leadCard, String trumpSuit) {
+        int expectedOpponentCards = CardSet.size(playerHand) - (leadCard == CardData.NO_CARD ? 0 : 1);
+        if (playerHand == CardSet.EMPTY || CardSet.size(opponentHand) != expectedOpponentCards) {
+            return CardData.NO_CARD;
+        }
+
+        prepare(trumpSuit);
+        deadline = System.nanoTime() + timeBudgetNanos;
+        nodes = 0;
+        aborted = false;
+
+        int lead = leadCard == CardData.NO_CARD ? CardData.NO_CARD : CardSet.getKind(leadCard);
+        search(canonical(playerHand), canonical(opponentHand), lead, true, 0, 0, Integer.MAX_VALUE);
+        if (aborted) {
+            return CardData.NO_CARD;
+        }
+
+        // Play a copy of the best card kind from the real hand
+        return CardSet.first(playerHand & CardSet.kindMask(rootBestKind));
+    }
+
+    /**
+     * Trick points the player wins from the position with perfect play of both sides, or -1 when
+     * the search didn't finish in time. Without a lead card the player leads and both hands have
+     * the same size, otherwise the opponent led it and holds one card less.
+     */
+    public int solveValue(long playerHand, long opponentHand, int leadCard, String trumpSuit) {
+        checkPosition(playerHand, opponentHand, leadCard);
+        prepare(trumpSuit);
+        deadline = System.nanoTime() + timeBudgetNanos;
+        nodes = 0;
+        aborted = false;
+
+        int lead = leadCard == CardData.NO_CARD ? CardData.NO_CARD : CardSet.getKind(leadCard);
+        int value = search(canonical(playerHand), canonical(opponentHand), lead, true, 0, 0, Integer.MAX_VALUE);
+        return aborted ? -1 : value;
+    }
+
+    private static void checkPosition(long playerHand, long opponentHand, int leadCard) {
+        if ((playerHand & ~CardSet.FULL) != 0 || (opponentHand & ~CardSet.FULL) != 0) {
+            throw new IllegalArgumentException("Not a card set");
+        }
+        if ((playerHand & opponentHand) != CardSet.EMPTY) {
+            throw new IllegalArgumentException("Cards in both hands: " + CardSet.toList(playerHand & opponentHand));
+        }
+        if (leadCard != CardData.NO_CARD && (leadCard < 0 || leadCard >= CardData.NB_CARDS
+                || CardSet.contains(playerHand | opponentHand, leadCard))) {
+            throw new IllegalArgumentException("Lead card " + leadCard + " is not a card out of both hands");
+        }
+        int expectedOpponentCards = CardSet.size(playerHand) - (leadCard == CardData.NO_CARD ? 0 : 1);
+        if (CardSet.size(opponentHand) != expectedOpponentCards) {
+            throw new IllegalArgumentException("Opponent holds " + CardSet.size(opponentHand)
+                    + " cards, expected " + expectedOpponentCards);
+        }
+    }
+
+    private void prepare(String trumpSuit) {
+        if (!trumpSuit.equals(tableTrumpSuit)) {
+            Arrays.fill(tableKeys, 0);
+            Arrays.fill(tableHands, 0);
+            Arrays.fill(tableEntries, 0);
+            tableTrumpSuit = trumpSuit;
+        }
+        this.trumpSuit = trumpSuit;
+        for (int card = 0; card < CardData.NB_CARDS; card++) {
+            cardScores[card] = TrickHelper.getCardScore(card, trumpSuit);
+        }
+    }
+
+    /**
+     * Both copies of a kind are the same for the rules, so a hand is searched with the first copy
+     * of every kind it holds and the second copy of the kinds it holds twice
+     */
+    private static long canonical(long hand) {
+        return CardSet.kindsAtLeastOne(hand) | (CardSet.kindsBoth(hand) << CardSet.NB_KINDS);
+    }
+
+    private static long removeKind(long hand, int kind) {
+        long secondCopy = 1L << (kind + CardSet.NB_KINDS);
+        return (hand & secondCopy) != 0 ? hand & ~secondCopy : hand & ~(1L << kind);
+    }
+
+    /**
+     * Trick points the player wins from now on. The player holds myHand, the lead card is a kind
+     * already played to the current trick (or NO_CARD), myTurn tells who plays next.
+     */
+    private int search(long myHand, long opponentHand, int leadCard, boolean myTurn, int ply, int alpha, int beta) {
+        if (myHand == CardSet.EMPTY && opponentHand == CardSet.EMPTY) {
+            return 0;
+        }
+        if (++nodes % NODES_BETWEEN_CLOCK_CHECKS == 0 && System.nanoTime() > deadline) {
+            aborted = true;
+        }
+        if (aborted) {
+            return 0;
+        }
+
+        long key = positionKey(myHand, leadCard, myTurn);
+        int slot = slot(key, opponentHand);
+        int bestKind = CardData.NO_CARD;
+        if (tableKeys[slot] == key && tableHands[slot] == opponentHand) {
+            int entry = tableEntries[slot];
+            int value = entry >>> 8;
+            int bound = entry & 3;
+            bestKind = ((entry >>> 2) & 0x3F) - 1;
+            // The root is always searched so it knows its best move
+            if (ply > 0 && (bound == EXACT
+                    || (bound == LOWER && value >= beta)
+                    || (bound == UPPER && value <= alpha))) {
+                return value;
+            }
+        }
+
+        long moverHand = myTurn ? myHand : opponentHand;
+        int nbMoves = generateMoves(moverHand, leadCard, bestKind, ply);
+
+        int originalAlpha = alpha;
+        int originalBeta = beta;
+        int bestValue = myTurn ? -1 : Integer.MAX_VALUE;
+        int bestMove = CardData.NO_CARD;
+        for (int i = 0; i < nbMoves; i++) {
+            int card = moves[ply][i];
+            int value;
+            if (leadCard == CardData.NO_CARD) {
+                value = myTurn
+                        ? search(removeKind(myHand, card), opponentHand, card, false, ply + 1, alpha, beta)
+                        : search(myHand, removeKind(opponentHand, card), card, true, ply + 1, alpha, beta);
+            } else {
+                // The trick is complete, the player index 0 stands for us and 1 for the opponent
+                int followerIndex = myTurn ? 0 : 1;
+                int winner = TrickWinnerCalculator.checkWinner(leadCard, card, trumpSuit, followerIndex);
+                int points = winner == 0 ? cardScores[leadCard] + cardScores[card] : 0;
+                long nextMyHand = myTurn ? removeKind(myHand, card) : myHand;
+                long nextOpponentHand = myTurn ? opponentHand : removeKind(opponentHand, card);
+                value = points + search(nextMyHand, nextOpponentHand, CardData.NO_CARD, winner == 0,
+                        ply + 1, alpha - points, beta - points);
+            }
+            if (aborted) {
+                return 0;
+            }
+
+            if (myTurn ? value > bestValue : value < bestValue) {
+                bestValue = value;
+                bestMove = card;
+            }
+            if (myTurn) {
+                alpha = Math.max(alpha, value);
+            } else {
+                beta = Math.min(beta, value);
+            }
+            if (alpha >= beta) {
+                break;
+            }
+        }
+
+        if (ply == 0) {
+            rootBestKind = bestMove;
+        }
+        int bound = bestValue <= originalAlpha ? UPPER : bestValue >= originalBeta ? LOWER : EXACT;
+        tableKeys[slot] = key;
+        tableHands[slot] = opponentHand;
+        tableEntries[slot] = (bestValue << 8) | ((bestMove + 1) << 2) | bound;
+        return bestValue;
+    }
+
+    private static long positionKey(long myHand, int leadCard, boolean myTurn) {
+        return myHand | ((long) (leadCard + 1) << 48) | (myTurn ? 1L << 62 : 0);
+    }
+
+    private int slot(long key, long opponentHand) {
+        long hash = (key * 0x9E3779B97F4A7C15L) ^ (opponentHand * 0xC2B2AE3D27D4EB4FL);
+        return (int) (hash ^ (hash >>> 32)) & tableMask;
+    }
+
+    /**
+     * Valid card kinds of the mover, the best move of the table first and then by card points,
+     * the highest first
+     */
+    private int generateMoves(long moverHand, int leadCard, int bestKind, int ply) {
+        long validCards = TrickHelper.getValidCards(moverHand, leadCard, trumpSuit) & KIND_MASK;
+        int[] plyMoves = moves[ply];
+        int[] plyOrder = moveOrder[ply];
+        int nbMoves = 0;
+        for (long cards = validCards; cards != CardSet.EMPTY; cards &= cards - 1) {
+            int card = Long.numberOfTrailingZeros(cards);
+            int order = card == bestKind ? Integer.MAX_VALUE : cardScores[card];
+            // Insertion sort, at most 24 moves
+            int i = nbMoves++;
+            while (i > 0 && plyOrder[i - 1] < order) {
+                plyMoves[i] = plyMoves[i - 1];
+                plyOrder[i] = plyOrder[i - 1];
+                i--;
+            }
+            plyMoves[i] = card;
+            plyOrder[i] = order;
+        }
+        return nbMoves;
+    }
+
+    @Override
+    public void recordPlayedCard(int card) {
+        fallback.recordPlayedCard(card);
+    }
+
+    @Override
+    public void reset() {
+        fallback.reset();
+        opponentHand = CardSet.EMPTY;
+    }
+}
@@ -0,0 +1,289 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Read side of the columnar game archive written by GameArchiveWriter. The file holds a header,
+ * blocks of up to BLOCK_GAMES games and a footer indexing the blocks. Inside a block every column
+ * is stored contiguously with a fixed width per game, so a scan reads one column after the other
+ * straight from the mapped file without parsing or copying anything onto the heap.
+ *
+ * File layout: MAGIC, VERSION | blocks | per block (offset, number of games) | number of blocks,
+ * offset of the index, MAGIC. A block starts with its number of games and a reserved 0.
+ */
+public final class GameArchive implements Closeable {
+    public static final int MAGIC = 0x504E4741;
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 8;
+    public static final int TRAILER_BYTES = 16;
+    public static final int INDEX_ENTRY_BYTES = 12;
+    public static final int BLOCK_HEADER_BYTES = 8;
+    public static final int BLOCK_GAMES = 4096;
+    public static final int NB_PLAYERS = 2;
+    public static final int MAX_TRICKS = CardSet.NB_KINDS / 2;
+
+    // Columns, widest first so every column stays aligned on its width
+    static final int HAND_0 = 0;
+    static final int HAND_1 = 1;
+    static final int BID = 2;
+    static final int MELD_SCORE_0 = 3;
+    static final int MELD_SCORE_1 = 4;
+    static final int SCORE_0 = 5;
+    static final int SCORE_1 = 6;
+    static final int TRICK_WINNERS = 7;
+    static final int BID_WINNER = 8;
+    static final int TRUMP = 9;
+    static final int WINNERS = 10;
+    static final int NB_TRICKS = 11;
+    static final int TRICK_CARDS = 12;
+    static final int[] COLUMN_WIDTHS = { 8, 8, 4, 4, 4, 4, 4, 2, 1, 1, 1, 1, 2 * MAX_TRICKS };
+
+    private final FileChannel channel;
+    private final List<Block> blocks;
+    private final long nbGames;
+
+    private GameArchive(FileChannel channel, List<Block> blocks) {
+        this.channel = channel;
+        this.blocks = Collections.unmodifiableList(blocks);
+        long games = 0;
+        for (Block block : blocks) {
+            games += block.getNbGames();
+        }
+        this.nbGames = games;
+    }
+
+    public static GameArchive open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long[] blockOffsets = readIndex(channel, file);
+            List<Block> blocks = new ArrayList<>(blockOffsets.length / 2);
+            for (int i = 0; i < blockOffsets.length; i += 2) {
+                int blockGames = (int) blockOffsets[i + 1];
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY,
+                        blockOffsets[i], blockBytes(blockGames));
+                blocks.add(new Block(buffer, blockGames));
+            }
+            return new GameArchive(channel, blocks);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Offset and number of games of every block, in pairs. When the footer is missing, because
+     * the writer never got to close, the blocks are found by walking their headers instead.
+     */
+    static long[] readIndex(FileChannel channel, Path file) throws IOException {
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        if (size < HEADER_BYTES || channel.read(header, 0) != HEADER_BYTES
+                || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new IOException("Not a game archive: " + file);
+        }
+
+        ByteBuffer trailer = ByteBuffer.allocate(TRAILER_BYTES);
+        if (size >= HEADER_BYTES + TRAILER_BYTES && channel.read(trailer, size - TRAILER_BYTES) == TRAILER_BYTES
+                && trailer.getInt(12) == MAGIC) {
+            int nbBlocks = trailer.getInt(0);
+            long indexOffset = trailer.getLong(4);
+            if (nbBlocks >= 0 && indexOffset >= HEADER_BYTES
+                    && indexOffset + (long) nbBlocks * INDEX_ENTRY_BYTES + TRAILER_BYTES == size) {
+                ByteBuffer index = ByteBuffer.allocate(nbBlocks * INDEX_ENTRY_BYTES);
+                channel.read(index, indexOffset);
+                long[] blockOffsets = new long[2 * nbBlocks];
+                boolean isValid = true;
+                for (int i = 0; i < nbBlocks && isValid; i++) {
+                    blockOffsets[2 * i] = index.getLong(i * INDEX_ENTRY_BYTES);
+                    blockOffsets[2 * i + 1] = index.getInt(i * INDEX_ENTRY_BYTES + 8);
+                    isValid = blockOffsets[2 * i] >= HEADER_BYTES
+                            && readBlockGames(channel, blockOffsets[2 * i], indexOffset) == blockOffsets[2 * i + 1];
+                }
+                // An index partly overwritten by blocks appended after it is ignored as well
+                if (isValid) {
+                    return blockOffsets;
+                }
+            }
+        }
+        return scanBlocks(channel, size);
+    }
+
+    /**
+     * Games of the block starting at the offset, or -1 when there is no complete block there
+     * before the end offset
+     */
+    private static int readBlockGames(FileChannel channel, long offset, long end) throws IOException {
+        ByteBuffer blockHeader = ByteBuffer.allocate(BLOCK_HEADER_BYTES);
+        if (offset + BLOCK_HEADER_BYTES > end || channel.read(blockHeader, offset) != BLOCK_HEADER_BYTES) {
+            return -1;
+        }
+        int blockGames = blockHeader.getInt(0);
+        if (blockGames <= 0 || blockGames > BLOCK_GAMES || blockHeader.getInt(4) != 0
+                || offset + blockBytes(blockGames) > end) {
+            return -1;
+        }
+        return blockGames;
+    }
+
+    /**
+     * Blocks follow each other from the header on, the walk stops at the first header that isn't
+     * one (an old footer, a block whose header wasn't written) or at a block past the end of the file
+     */
+    private static long[] scanBlocks(FileChannel channel, long size) throws IOException {
+        List<long[]> blocks = new ArrayList<>();
+        long offset = HEADER_BYTES;
+        for (int blockGames; (blockGames = readBlockGames(channel, offset, size)) > 0; offset += blockBytes(blockGames)) {
+            blocks.add(new long[] { offset, blockGames });
+        }
+        long[] blockOffsets = new long[2 * blocks.size()];
+        for (int i = 0; i < blocks.size(); i++) {
+            blockOffsets[2 * i] = blocks.get(i)[0];
+            blockOffsets[2 * i + 1] = blocks.get(i)[1];
+        }
+        return blockOffsets;
+    }
+
+    /**
+     * Offset of a column from the start of a block holding the given number of games
+     */
+    static int columnOffset(int column, int blockGames) {
+        int offset = BLOCK_HEADER_BYTES;
+        for (int i = 0; i < column; i++) {
+            offset += COLUMN_WIDTHS[i] * blockGames;
+        }
+        return offset;
+    }
+
+    static int blockBytes(int blockGames) {
+        return columnOffset(COLUMN_WIDTHS.length, blockGames);
+    }
+
+    public long getNbGames() {
+        return nbGames;
+    }
+
+    public List<Block> getBlocks() {
+        return blocks;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Usage: GameArchive archive [bid] [trumps]
+     * Prints how often the bid winner wins the game after bidding above the bid (default 200)
+     * with at least the given number of trumps (default 6) in the hand.
+     */
+    public static void main(String[] args) throws IOException {
+        int minBid = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int minTrumps = args.length > 2 ? Integer.parseInt(args[2]) : 6;
+        try (GameArchive archive = open(Path.of(args[0]))) {
+            long startTime = System.nanoTime();
+            long nbTricks = 0;
+            long nbBids = 0;
+            long nbWins = 0;
+            for (Block block : archive.getBlocks()) {
+                for (int game = 0; game < block.getNbGames(); game++) {
+                    nbTricks += block.getNbTricks(game);
+                    int bidWinner = block.getBidWinner(game);
+                    long trumps = block.getHand(game, bidWinner) & CardSet.suitMask(block.getTrump(game));
+                    if (block.getBid(game) > minBid && CardSet.size(trumps) >= minTrumps) {
+                        nbBids++;
+                        nbWins += (block.getWinners(game) >> bidWinner) & 1;
+                    }
+                }
+            }
+            double elapsedSeconds = (System.nanoTime() - startTime) / 1e9;
+            System.out.printf("Games: %d, tricks: %d (%.0f tricks/s)%n", archive.getNbGames(), nbTricks,
+                    nbTricks / elapsedSeconds);
+            System.out.printf("Bids above %d with %d+ trumps: %d, won %.1f%%%n", minBid, minTrumps, nbBids,
+                    nbBids == 0 ? 0 : 100.0 * nbWins / nbBids);
+        }
+    }
+
+    /**
+     * The games of one block, read in place from the mapped file. Games are indexed from 0 within the block.
+     */
+    public static final class Block {
+        private final ByteBuffer buffer;
+        private final int nbGames;
+        private final int[] columnOffsets = new int[COLUMN_WIDTHS.length];
+
+        private Block(ByteBuffer buffer, int nbGames) {
+            this.buffer = buffer;
+            this.nbGames = nbGames;
+            for (int column = 0; column < COLUMN_WIDTHS.length; column++) {
+                columnOffsets[column] = columnOffset(column, nbGames);
+            }
+        }
+
+        public int getNbGames() {
+            return nbGames;
+        }
+
+        /**
+         * The player's hand after the deal (and the cutthroat draw), as a CardSet
+         */
+        public long getHand(int game, int player) {
+            return buffer.getLong(columnOffsets[HAND_0 + player] + 8 * game);
+        }
+
+        public int getBid(int game) {
+            return buffer.getInt(columnOffsets[BID] + 4 * game);
+        }
+
+        public int getBidWinner(int game) {
+            return buffer.get(columnOffsets[BID_WINNER] + game);
+        }
+
+        /**
+         * Suit index of the trump, see CardData.getSuitIndex
+         */
+        public int getTrump(int game) {
+            return buffer.get(columnOffsets[TRUMP] + game);
+        }
+
+        public int getMeldScore(int game, int player) {
+            return buffer.getInt(columnOffsets[MELD_SCORE_0 + player] + 4 * game);
+        }
+
+        public int getScore(int game, int player) {
+            return buffer.getInt(columnOffsets[SCORE_0 + player] + 4 * game);
+        }
+
+        /**
+         * Bit i is set when player i is one of the winners
+         */
+        public int getWinners(int game) {
+            return buffer.get(columnOffsets[WINNERS] + game);
+        }
+
+        public int getNbTricks(int game) {
+            return buffer.get(columnOffsets[NB_TRICKS] + game);
+        }
+
+        /**
+         * Bit t is set when player 1 won trick t, player 0 won it otherwise
+         */
+        public int getTrickWinners(int game) {
+            return Short.toUnsignedInt(buffer.getShort(columnOffsets[TRICK_WINNERS] + 2 * game));
+        }
+
+        /**
+         * The card led (position 0) or played second (position 1) in a trick, CardData.NO_CARD
+         * after the last trick
+         */
+        public int getTrickCard(int game, int trick, int position) {
+            return buffer.get(columnOffsets[TRICK_CARDS] + 2 * MAX_TRICKS * game + 2 * trick + position);
+        }
+    }
+}
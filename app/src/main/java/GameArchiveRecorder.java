@@ -0,0 +1,120 @@
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Collects the events of a game into the fixed-width fields of a GameArchive record and appends
+ * the game to the writer when it ends. Cards are stored as the copy held in the hand, the first
+ * copy still in the deck when the log only names the kind. One recorder serves one game at a time.
+ */
+public class GameArchiveRecorder implements GameEventListener {
+    private final GameArchiveWriter writer;
+
+    // Fields of the game being recorded, read by the writer
+    final long[] hands = new long[GameArchive.NB_PLAYERS];
+    final int[] meldScores = new int[GameArchive.NB_PLAYERS];
+    final int[] scores = new int[GameArchive.NB_PLAYERS];
+    final byte[] trickCards = new byte[2 * GameArchive.MAX_TRICKS];
+    int bid;
+    int bidWinner;
+    int trump;
+    int winners;
+    int nbTricks;
+    int trickWinners;
+
+    private final long[] remainingCards = new long[GameArchive.NB_PLAYERS];
+    private String trumpSuit;
+    private int leadCard;
+
+    public GameArchiveRecorder(GameArchiveWriter writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void onGameStart() {
+        for (int i = 0; i < GameArchive.NB_PLAYERS; i++) {
+            hands[i] = CardSet.EMPTY;
+            remainingCards[i] = CardSet.EMPTY;
+            meldScores[i] = 0;
+            scores[i] = 0;
+        }
+        Arrays.fill(trickCards, (byte) CardData.NO_CARD);
+        bid = 0;
+        bidWinner = 0;
+        trump = -1;
+        winners = 0;
+        nbTricks = 0;
+        trickWinners = 0;
+        trumpSuit = null;
+        leadCard = CardData.NO_CARD;
+    }
+
+    @Override
+    public void onBid(int bidWinPlayerIndex, int bid) {
+        this.bidWinner = bidWinPlayerIndex;
+        this.bid = bid;
+    }
+
+    @Override
+    public void onTrump(String trumpSuit) {
+        this.trumpSuit = trumpSuit;
+        this.trump = CardData.getSuitIndex(trumpSuit);
+    }
+
+    @Override
+    public void onMeldScores(int[] meldScores) {
+        System.arraycopy(meldScores, 0, this.meldScores, 0, GameArchive.NB_PLAYERS);
+    }
+
+    @Override
+    public void onInitialCards(List<List<Integer>> initialHands) {
+        long dealtCards = CardSet.EMPTY;
+        for (int i = 0; i < GameArchive.NB_PLAYERS; i++) {
+            for (int card : initialHands.get(i)) {
+                int kind = CardSet.getKind(card);
+                int copy = CardSet.contains(dealtCards, kind) ? kind + CardSet.NB_KINDS : kind;
+                dealtCards = CardSet.add(dealtCards, copy);
+                hands[i] = CardSet.add(hands[i], copy);
+            }
+            remainingCards[i] = hands[i];
+        }
+    }
+
+    @Override
+    public void onRound(int roundNumber) {
+    }
+
+    @Override
+    public void onCardPlayed(int player, int card) {
+        long copies = remainingCards[player] & CardSet.kindMask(card);
+        int copy = copies == CardSet.EMPTY ? card : CardSet.first(copies);
+        remainingCards[player] = CardSet.remove(remainingCards[player], copy);
+        if (nbTricks == GameArchive.MAX_TRICKS) {
+            return;
+        }
+
+        if (leadCard == CardData.NO_CARD) {
+            leadCard = copy;
+            trickCards[2 * nbTricks] = (byte) copy;
+        } else {
+            trickCards[2 * nbTricks + 1] = (byte) copy;
+            if (TrickWinnerCalculator.checkWinner(leadCard, copy, trumpSuit, player) == 1) {
+                trickWinners |= 1 << nbTricks;
+            }
+            leadCard = CardData.NO_CARD;
+            nbTricks++;
+        }
+    }
+
+    @Override
+    public void onTrickWon(int player) {
+    }
+
+    @Override
+    public void onGameEnd(List<List<Integer>> trickWinningHands, int[] scores, List<Integer> winners) {
+        System.arraycopy(scores, 0, this.scores, 0, GameArchive.NB_PLAYERS);
+        for (int winner : winners) {
+            this.winners |= 1 << winner;
+        }
+        writer.append(this);
+    }
+}
@@ -0,0 +1,175 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Appends games to a GameArchive file. Games are gathered column by column until a block is
+ * full, then the block is written after the previous ones; the index of the blocks is written
+ * when the writer is closed. Opening an existing archive keeps appending after its last block,
+ * so blocks already written are never rewritten. A block's header is written once its columns are
+ * on disk: an archive left without its footer (the writer wasn't closed, or a block write failed)
+ * still reads back every complete block, see GameArchive.readIndex. Safe to share between games
+ * running in parallel.
+ */
+public class GameArchiveWriter implements Closeable {
+    private final FileChannel channel;
+    private final ByteBuffer[] columns = new ByteBuffer[GameArchive.COLUMN_WIDTHS.length];
+    private final ByteBuffer blockHeader = ByteBuffer.allocate(GameArchive.BLOCK_HEADER_BYTES);
+    private final List<long[]> index = new ArrayList<>();
+    private long position;
+    private int blockGames = 0;
+    // Set when a block write fails, no more games or footer are written after it
+    private IOException failure;
+
+    public GameArchiveWriter(Path file) throws IOException {
+        boolean exists = Files.exists(file) && Files.size(file) > 0;
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (exists) {
+                long[] blockOffsets = GameArchive.readIndex(channel, file);
+                for (int i = 0; i < blockOffsets.length; i += 2) {
+                    index.add(new long[] { blockOffsets[i], blockOffsets[i + 1] });
+                }
+                // The old footer stays until new blocks overwrite it, and close truncates what is left
+                position = index.isEmpty() ? GameArchive.HEADER_BYTES
+                        : index.get(index.size() - 1)[0] + GameArchive.blockBytes((int) index.get(index.size() - 1)[1]);
+            } else {
+                writeFully(ByteBuffer.allocate(GameArchive.HEADER_BYTES)
+                        .putInt(GameArchive.MAGIC).putInt(GameArchive.VERSION).flip());
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        for (int column = 0; column < columns.length; column++) {
+            columns[column] = ByteBuffer.allocate(GameArchive.COLUMN_WIDTHS[column] * GameArchive.BLOCK_GAMES);
+        }
+    }
+
+    /**
+     * Adds the game collected by the recorder
+     */
+    public synchronized void append(GameArchiveRecorder game) {
+        if (failure != null) {
+            throw new IllegalStateException("A block write failed, the archive can't be appended to", failure);
+        }
+        columns[GameArchive.HAND_0].putLong(game.hands[0]);
+        columns[GameArchive.HAND_1].putLong(game.hands[1]);
+        columns[GameArchive.BID].putInt(game.bid);
+        columns[GameArchive.MELD_SCORE_0].putInt(game.meldScores[0]);
+        columns[GameArchive.MELD_SCORE_1].putInt(game.meldScores[1]);
+        columns[GameArchive.SCORE_0].putInt(game.scores[0]);
+        columns[GameArchive.SCORE_1].putInt(game.scores[1]);
+        columns[GameArchive.TRICK_WINNERS].putShort((short) game.trickWinners);
+        columns[GameArchive.BID_WINNER].put((byte) game.bidWinner);
+        columns[GameArchive.TRUMP].put((byte) game.trump);
+        columns[GameArchive.WINNERS].put((byte) game.winners);
+        columns[GameArchive.NB_TRICKS].put((byte) game.nbTricks);
+        columns[GameArchive.TRICK_CARDS].put(game.trickCards);
+        if (++blockGames == GameArchive.BLOCK_GAMES) {
+            try {
+                writeBlock();
+            } catch (IOException e) {
+                failure = e;
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Writes the pending games and the index, the archive can't be appended to afterwards. After a
+     * failed block write nothing more is written and the archive keeps the blocks written before.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try {
+            if (failure != null) {
+                throw new IOException("A block write failed, the index isn't written", failure);
+            }
+            if (blockGames > 0) {
+                try {
+                    writeBlock();
+                } catch (IOException e) {
+                    failure = e;
+                    throw e;
+                }
+            }
+            long indexOffset = position;
+            ByteBuffer footer = ByteBuffer.allocate(index.size() * GameArchive.INDEX_ENTRY_BYTES + GameArchive.TRAILER_BYTES);
+            for (long[] entry : index) {
+                footer.putLong(entry[0]).putInt((int) entry[1]);
+            }
+            footer.putInt(index.size()).putLong(indexOffset).putInt(GameArchive.MAGIC);
+            writeFully(footer.flip());
+            // Bytes past the footer, a block whose header was never written, would hide it
+            channel.truncate(position);
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Usage: GameArchiveWriter archive log file or directory...
+     * Appends the games of text logs and binary event logs to the archive.
+     */
+    public static void main(String[] args) throws IOException {
+        List<Path> paths = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            paths.add(Path.of(args[i]));
+        }
+        try (GameArchiveWriter writer = new GameArchiveWriter(Path.of(args[0]))) {
+            GameArchiveRecorder recorder = new GameArchiveRecorder(writer);
+            for (Path file : ReplayRunner.findFiles(paths)) {
+                try (FileChannel log = FileChannel.open(file, StandardOpenOption.READ)) {
+                    ByteBuffer bytes = log.map(FileChannel.MapMode.READ_ONLY, 0, log.size());
+                    if (BinaryEventDecoder.isEventLog(bytes)) {
+                        BinaryEventDecoder.decode(bytes, recorder);
+                    } else {
+                        TextLogParser.parse(bytes, recorder);
+                    }
+                }
+            }
+        }
+    }
+
+    private void writeBlock() throws IOException {
+        long blockOffset = position;
+        long columnsOffset = blockOffset + GameArchive.BLOCK_HEADER_BYTES;
+        for (ByteBuffer column : columns) {
+            columnsOffset = writeFully(column.flip(), columnsOffset);
+        }
+        // The header makes the block visible to readers without a footer, so it goes last
+        channel.force(false);
+        blockHeader.clear();
+        writeFully(blockHeader.putInt(blockGames).putInt(0).flip(), blockOffset);
+        channel.force(false);
+
+        index.add(new long[] { blockOffset, blockGames });
+        position = columnsOffset;
+        for (ByteBuffer column : columns) {
+            column.clear();
+        }
+        blockGames = 0;
+    }
+
+    private void writeFully(ByteBuffer bytes) throws IOException {
+        position = writeFully(bytes, position);
+    }
+
+    private long writeFully(ByteBuffer bytes, long offset) throws IOException {
+        while (bytes.hasRemaining()) {
+            offset += channel.write(bytes, offset);
+        }
+        return offset;
+    }
+}
@@ -0,0 +1,20 @@
+/**
+ * Time source for the thinking and animation pauses of the GUI game. Interactive play pauses in
+ * real time, automated runs use a virtual clock so the pauses cost nothing.
+ */
+public interface GameClock {
+    /**
+     * Lets the given time pass
+     */
+    void pause(long milliseconds);
+
+    /**
+     * Time passed on this clock since it was created
+     */
+    long elapsedMillis();
+
+    /**
+     * Time asked for by the pauses so far
+     */
+    long pausedMillis();
+}
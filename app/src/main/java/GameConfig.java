@@ -7,23 +7,26 @@ public class GameConfig {
     private final Properties properties;
 
     static public final int seed = 30008;
-    static final Random random = new Random(seed);
 
     // Game mode settings
     private final boolean isAuto;
     private final boolean isCutthroatMode;
     private final boolean useAdditionalMelds;
     private final boolean isSmartTrickMode;
+    private final boolean isSmartDiscardMode;
 
     // Timing settings
     private final int thinkingTime;
     private final int delayTime;
+    private final boolean useVirtualClock;
+    private final boolean printLatency;
 
     // Player settings
     static final int COMPUTER_PLAYER_INDEX = 0;
     static final int HUMAN_PLAYER_INDEX = 1;
 
     private final boolean isPlayer0SmartBidding;
+    private final boolean isPlayer0MonteCarloBidding;
     private final String trumpSuit;
     private final String bidOrder;
 
@@ -48,13 +51,18 @@ public class GameConfig {
         this.isCutthroatMode = parseBoolean("mode.cutthroat", false);
         this.useAdditionalMelds = parseBoolean("melds.additional", false);
         this.isSmartTrickMode = parseBoolean("mode.smarttrick", false);
+        this.isSmartDiscardMode = parseBoolean("mode.smartdiscard", false);
 
         // Load timing settings
         this.thinkingTime = parseInt("thinkingTime", 2000);
         this.delayTime = parseInt("delayTime", 600);
+        // Scripted games skip the pauses unless asked to play them out
+        this.useVirtualClock = parseBoolean("clock.virtual", isAuto);
+        this.printLatency = parseBoolean("latency.print", false);
 
         // Load player settings
         this.isPlayer0SmartBidding = parseBoolean("players.0.smartbids", false);
+        this.isPlayer0MonteCarloBidding = parseBoolean("players.0.montecarlobids", false);
         this.trumpSuit = parseString("players.trump", "C");
         this.bidOrder = parseString("players.bid_first", "random");
 
@@ -117,11 +125,15 @@ public class GameConfig {
     public boolean isCutthroatMode() { return isCutthroatMode; }
     public boolean useAdditionalMelds() { return useAdditionalMelds; }
     public boolean isSmartTrickMode() { return isSmartTrickMode; }
+    public boolean isSmartDiscardMode() { return isSmartDiscardMode; }
 
     public int getThinkingTime() { return thinkingTime; }
     public int getDelayTime() { return delayTime; }
+    public boolean useVirtualClock() { return useVirtualClock; }
+    public boolean printLatency() { return printLatency; }
 
     public boolean isPlayer0SmartBidding() { return isPlayer0SmartBidding; }
+    public boolean isPlayer0MonteCarloBidding() { return isPlayer0MonteCarloBidding; }
     public String getTrumpSuit() { return trumpSuit; }
     public String getBidOrder() { return bidOrder; }
 
@@ -137,6 +149,16 @@ public class GameConfig {
     public List<String> getPlayer1FinalCards() { return new ArrayList<>(player1FinalCards); }
 
     // Convenience methods for accessing player-specific data
+    /**
+     * Bidding strategy name of the computer player, Monte Carlo bidding takes precedence over smart
+     */
+    public String getPlayer0BiddingStrategy() {
+        if (isPlayer0MonteCarloBidding) {
+            return BiddingStrategyFactory.MONTE_CARLO_BIDDING;
+        }
+        return isPlayer0SmartBidding ? BiddingStrategyFactory.SMART_BIDDING : BiddingStrategyFactory.RANDOM_BIDDING;
+    }
+
     public List<String> getPlayerInitialCards(int playerIndex) {
         return playerIndex == 0 ? getPlayer0InitialCards() : getPlayer1InitialCards();
     }
@@ -0,0 +1,15 @@
+/**
+ * The game that the game states drive. Implemented by the GUI game and the headless engine.
+ */
+public interface GameContext {
+    GameConfig getConfig();
+
+    void performBidding();
+    void performTrumpSelection();
+    void performCutThroatMode();
+    void performMelding();
+    void performTrickTaking();
+    void performGameOver();
+
+    void setState(GameState state);
+}
@@ -0,0 +1,25 @@
+import java.util.List;
+
+/**
+ * Receives the events of a game in the order they happen. Cards are card ids (see CardData),
+ * hands and trick piles are card id lists in the order the game keeps them.
+ */
+public interface GameEventListener {
+    void onGameStart();
+
+    void onBid(int bidWinPlayerIndex, int bid);
+
+    void onTrump(String trumpSuit);
+
+    void onMeldScores(int[] meldScores);
+
+    void onInitialCards(List<List<Integer>> hands);
+
+    void onRound(int roundNumber);
+
+    void onCardPlayed(int player, int card);
+
+    void onTrickWon(int player);
+
+    void onGameEnd(List<List<Integer>> trickWinningHands, int[] scores, List<Integer> winners);
+}
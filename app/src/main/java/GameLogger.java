@@ -1,76 +1,110 @@
 import ch.aplu.jcardgame.*;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
- *  Class responsible for all logging
+ *  Class responsible for all logging. The game's events go to the listeners, by default
+ *  only the text log renderer.
  */
 
 public class GameLogger {
-    private final StringBuilder logResult = new StringBuilder();
+    private TextLogRenderer textLog = new TextLogRenderer();
+    private final List<GameEventListener> listeners = new ArrayList<>(List.of(textLog));
+
+    public void addEventListener(GameEventListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Stops rendering the text log, for batch runs that only need the event listeners
+     */
+    public void disableTextLog() {
+        listeners.remove(textLog);
+        textLog = null;
+    }
+
+    public void addGameStartToLog() {
+        for (GameEventListener listener : listeners) {
+            listener.onGameStart();
+        }
+    }
 
     public void addCardPlayedToLog(int player, Card card) {
-        logResult.append("P" + player + "-");
-        Rank cardRank = (Rank) card.getRank();
-        Suit cardSuit = (Suit) card.getSuit();
-        logResult.append(cardRank.getCardLog() + cardSuit.getSuitShortHand());
-        logResult.append(",");
+        addCardPlayedToLog(player, TrickHelper.toCardId(card));
+    }
+
+    public void addCardPlayedToLog(int player, int card) {
+        for (GameEventListener listener : listeners) {
+            listener.onCardPlayed(player, card);
+        }
+    }
+
+    public void addTrickWonToLog(int player) {
+        for (GameEventListener listener : listeners) {
+            listener.onTrickWon(player);
+        }
     }
 
     public void addBidInfoToLog(int bidWinPlayerIndex, int currentBid) {
-        logResult.append("Bid:" + bidWinPlayerIndex + "-" + currentBid + "\n");
+        for (GameEventListener listener : listeners) {
+            listener.onBid(bidWinPlayerIndex, currentBid);
+        }
     }
 
     public void addTrumpInfoToLog(String trumpSuit, int[] scores) {
-        logResult.append("Trump: " + trumpSuit + "\n");
-        logResult.append("Melding Scores: " + scores[0] + "-" + scores[1] + "\n");
+        int[] meldScores = scores.clone();
+        for (GameEventListener listener : listeners) {
+            listener.onTrump(trumpSuit);
+            listener.onMeldScores(meldScores);
+        }
     }
 
     public void addRoundInfoToLog(int roundNumber) {
-        logResult.append("\n");
-        logResult.append("Round" + roundNumber + ":");
+        for (GameEventListener listener : listeners) {
+            listener.onRound(roundNumber);
+        }
     }
 
     public void addPlayerCardsToLog(Hand[] hands, int nbPlayers) {
-        logResult.append("Initial Cards:");
-        for (int i = 0; i < nbPlayers; i++) {
-            logResult.append("P" + i + "-");
-            logResult.append(convertHandToString(hands[i]));
+        addPlayerCardsToLog(toCardIds(hands), nbPlayers);
+    }
+
+    public void addPlayerCardsToLog(List<List<Integer>> hands, int nbPlayers) {
+        List<List<Integer>> playerHands = hands.subList(0, nbPlayers);
+        for (GameEventListener listener : listeners) {
+            listener.onInitialCards(playerHands);
         }
     }
 
     public void addEndOfGameToLog(Hand[] trickWinningHands, int[] scores, List<Integer> winners, int nbPlayers) {
-        logResult.append("\n");
-        logResult.append("Trick Winning: ");
-        for (int i = 0; i < nbPlayers; i++) {
-            logResult.append("P" + i + ":");
-            logResult.append(convertHandToString(trickWinningHands[i]));
-        }
-        logResult.append("\n");
-        logResult.append("Final Score: ");
-        for (int i = 0; i < scores.length; i++) {
-            logResult.append(scores[i] + ",");
+        addEndOfGameToLog(toCardIds(trickWinningHands), scores, winners, nbPlayers);
+    }
+
+    public void addEndOfGameToLog(List<List<Integer>> trickWinningHands, int[] scores, List<Integer> winners, int nbPlayers) {
+        List<List<Integer>> playerTrickHands = trickWinningHands.subList(0, nbPlayers);
+        int[] finalScores = scores.clone();
+        for (GameEventListener listener : listeners) {
+            listener.onGameEnd(playerTrickHands, finalScores, winners);
         }
-        logResult.append("\n");
-        logResult.append("Winners: " + String.join(", ", winners.stream().map(String::valueOf).collect(Collectors.toList())));
     }
 
-    private String convertHandToString(Hand hand) {
-        StringBuilder sb = new StringBuilder();
-        sb.append(hand.getCardList().stream().map(card -> {
-            Rank rank = (Rank) card.getRank();
-            Suit suit = (Suit) card.getSuit();
-            return rank.getCardLog() + suit.getSuitShortHand();
-        }).collect(Collectors.joining(",")));
-        sb.append("-");
-        return sb.toString();
+    private List<List<Integer>> toCardIds(Hand[] hands) {
+        List<List<Integer>> cardIds = new ArrayList<>(hands.length);
+        for (Hand hand : hands) {
+            cardIds.add(TrickHelper.toCardIds(hand.getCardList()));
+        }
+        return cardIds;
     }
 
+    /**
+     * The text log so far, empty when the text log is disabled
+     */
     public String getLogResult() {
-        return logResult.toString();
+        return textLog == null ? "" : textLog.getText();
     }
 
     public void clearLog() {
-        logResult.setLength(0);
+        if (textLog != null) {
+            textLog.clear();
+        }
     }
-}
\ No newline at end of file
+}
@@ -2,7 +2,7 @@
  * The end game state
  */
 public class GameOverState extends GameState {
-    public GameOverState(Pinochle gameContext) {
+    public GameOverState(GameContext gameContext) {
         super(gameContext);
     }
 
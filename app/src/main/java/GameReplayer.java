@@ -0,0 +1,279 @@
+import java.util.List;
+
+/**
+ * Rebuilds logged games from their events and re-executes every play through the rules:
+ * checks the bid winner leads, every card is in the hand of the player to move and valid
+ * (TrickHelper.checkValidTrick or getValidCards), trick winners (TrickWinnerCalculator),
+ * meld scores (MeldScores), trick piles, final scores and winners. The first violation of
+ * a game is reported to the summary. Works on the events of both the text log
+ * (TextLogParser) and the binary event log.
+ */
+public class GameReplayer implements GameEventListener {
+    private static final int NB_PLAYERS = 2;
+
+    private final boolean useAdditionalMelds;
+    private final ReplaySummary summary;
+    private String source = "";
+    private int gameIndex = -1;
+
+    // State of the game being replayed
+    private boolean inGame = false;
+    private String violation;
+    private final long[] hands = new long[NB_PLAYERS];
+    private final int[][] trickPiles = new int[NB_PLAYERS][CardData.NB_CARDS];
+    private final int[] trickPileSizes = new int[NB_PLAYERS];
+    private final int[] trickPoints = new int[NB_PLAYERS];
+    private final int[] meldScores = new int[NB_PLAYERS];
+    private String trumpSuit;
+    private int bid;
+    private int bidWinPlayerIndex;
+    private int round;
+    private int nextPlayer;
+    private int leadCard;
+    private int trickWinner;
+
+    public GameReplayer(boolean useAdditionalMelds, ReplaySummary summary) {
+        this.useAdditionalMelds = useAdditionalMelds;
+        this.summary = summary;
+    }
+
+    /**
+     * Name of the log being replayed, used in the violation messages
+     */
+    public void setSource(String source) {
+        this.source = source;
+        this.gameIndex = -1;
+    }
+
+    @Override
+    public void onGameStart() {
+        if (inGame) {
+            fail("the game has no end");
+            finishGame();
+        }
+        inGame = true;
+        gameIndex++;
+        violation = null;
+        trumpSuit = null;
+        bid = 0;
+        bidWinPlayerIndex = 0;
+        round = -1;
+        nextPlayer = 0;
+        leadCard = CardData.NO_CARD;
+        trickWinner = -1;
+        for (int i = 0; i < NB_PLAYERS; i++) {
+            hands[i] = CardSet.EMPTY;
+            trickPileSizes[i] = 0;
+            trickPoints[i] = 0;
+            meldScores[i] = 0;
+        }
+    }
+
+    @Override
+    public void onBid(int bidWinPlayerIndex, int bid) {
+        if (!isPlayer(bidWinPlayerIndex)) {
+            fail("bid winner " + bidWinPlayerIndex + " is not a player");
+            return;
+        }
+        this.bidWinPlayerIndex = bidWinPlayerIndex;
+        this.bid = bid;
+        nextPlayer = bidWinPlayerIndex;
+    }
+
+    @Override
+    public void onTrump(String trumpSuit) {
+        if (CardData.getSuitIndex(trumpSuit) < 0) {
+            fail("trump " + trumpSuit + " is not a suit");
+        }
+        this.trumpSuit = trumpSuit;
+    }
+
+    @Override
+    public void onMeldScores(int[] meldScores) {
+        if (meldScores.length != NB_PLAYERS) {
+            fail(meldScores.length + " meld scores for " + NB_PLAYERS + " players");
+            return;
+        }
+        System.arraycopy(meldScores, 0, this.meldScores, 0, NB_PLAYERS);
+    }
+
+    @Override
+    public void onInitialCards(List<List<Integer>> initialHands) {
+        if (initialHands.size() != NB_PLAYERS || trumpSuit == null) {
+            fail("initial cards without trump or for " + initialHands.size() + " players");
+            return;
+        }
+        long dealtCards = CardSet.EMPTY;
+        for (int i = 0; i < NB_PLAYERS; i++) {
+            for (int card : initialHands.get(i)) {
+                int kind = CardSet.getKind(card);
+                long copies = dealtCards & CardSet.kindMask(kind);
+                if (copies == CardSet.kindMask(kind)) {
+                    fail("more than two copies of " + CardData.getCardLog(kind) + " were dealt");
+                    return;
+                }
+                // Take the first copy still in the deck
+                int copy = copies == CardSet.EMPTY ? kind : kind + CardSet.NB_KINDS;
+                dealtCards = CardSet.add(dealtCards, copy);
+                hands[i] = CardSet.add(hands[i], copy);
+            }
+        }
+        if (CardSet.size(hands[0]) != CardSet.size(hands[1])) {
+            fail("the players hold " + CardSet.size(hands[0]) + " and " + CardSet.size(hands[1]) + " cards");
+        }
+        for (int i = 0; i < NB_PLAYERS; i++) {
+            int meldScore = MeldScores.calculateMeldingScore(hands[i], trumpSuit, useAdditionalMelds);
+            if (meldScore != meldScores[i]) {
+                fail("P" + i + " meld score is " + meldScore + ", logged " + meldScores[i]);
+            }
+        }
+    }
+
+    @Override
+    public void onRound(int roundNumber) {
+        if (roundNumber != round + 1 || leadCard != CardData.NO_CARD) {
+            fail("round " + roundNumber + " follows round " + round);
+        }
+        round = roundNumber;
+    }
+
+    @Override
+    public void onCardPlayed(int player, int card) {
+        if (violation != null) {
+            return;
+        }
+        if (player != nextPlayer) {
+            fail("P" + player + " played " + CardData.getCardLog(card) + " in round " + round
+                    + " but P" + nextPlayer + " was to play");
+            return;
+        }
+        long hand = hands[player];
+        long copies = hand & CardSet.kindMask(card);
+        if (copies == CardSet.EMPTY) {
+            fail("P" + player + " played " + CardData.getCardLog(card) + " in round " + round + " without holding it");
+            return;
+        }
+
+        int kind = CardSet.getKind(card);
+        if (leadCard == CardData.NO_CARD) {
+            leadCard = kind;
+            nextPlayer = 1 - player;
+        } else {
+            if (!isValidPlay(kind, hand)) {
+                fail("P" + player + " played " + CardData.getCardLog(card) + " on " + CardData.getCardLog(leadCard)
+                        + " in round " + round + ", which is not valid");
+                return;
+            }
+            trickWinner = TrickWinnerCalculator.checkWinner(leadCard, kind, trumpSuit, player);
+            trickPoints[trickWinner] += TrickHelper.getCardScore(leadCard, trumpSuit)
+                    + TrickHelper.getCardScore(kind, trumpSuit);
+            trickPiles[trickWinner][trickPileSizes[trickWinner]++] = leadCard;
+            trickPiles[trickWinner][trickPileSizes[trickWinner]++] = kind;
+            leadCard = CardData.NO_CARD;
+            nextPlayer = trickWinner;
+        }
+        hands[player] = CardSet.remove(hand, CardSet.first(copies));
+    }
+
+    @Override
+    public void onTrickWon(int player) {
+        if (player != trickWinner) {
+            fail("P" + player + " took the trick of round " + round + " won by P" + trickWinner);
+        }
+    }
+
+    @Override
+    public void onGameEnd(List<List<Integer>> trickWinningHands, int[] scores, List<Integer> winners) {
+        checkEnd(trickWinningHands, scores, winners);
+        finishGame();
+    }
+
+    private void checkEnd(List<List<Integer>> trickWinningHands, int[] scores, List<Integer> winners) {
+        if (violation != null) {
+            return;
+        }
+        if (leadCard != CardData.NO_CARD || hands[0] != CardSet.EMPTY || hands[1] != CardSet.EMPTY) {
+            fail("the game ended with cards left to play");
+            return;
+        }
+        if (trickWinningHands.size() != NB_PLAYERS || scores.length != NB_PLAYERS) {
+            fail("the end of the game is logged for the wrong number of players");
+            return;
+        }
+
+        for (int i = 0; i < NB_PLAYERS; i++) {
+            List<Integer> pile = trickWinningHands.get(i);
+            boolean samePile = pile.size() == trickPileSizes[i];
+            for (int j = 0; samePile && j < pile.size(); j++) {
+                samePile = CardSet.getKind(pile.get(j)) == trickPiles[i][j];
+            }
+            if (!samePile) {
+                fail("P" + i + " trick pile differs from the tricks played");
+                return;
+            }
+        }
+
+        int maxScore = 0;
+        for (int i = 0; i < NB_PLAYERS; i++) {
+            int score = meldScores[i] + trickPoints[i];
+            if (i == bidWinPlayerIndex && score < bid) {
+                score = 0;
+            }
+            if (score != scores[i]) {
+                fail("P" + i + " final score is " + score + ", logged " + scores[i]);
+                return;
+            }
+            maxScore = Math.max(maxScore, score);
+        }
+        int nbWinners = 0;
+        for (int i = 0; i < NB_PLAYERS; i++) {
+            if (scores[i] == maxScore && (nbWinners >= winners.size() || winners.get(nbWinners++) != i)) {
+                fail("the winners are logged as " + winners);
+                return;
+            }
+        }
+        if (nbWinners != winners.size()) {
+            fail("the winners are logged as " + winners);
+        }
+    }
+
+    private void finishGame() {
+        inGame = false;
+        if (violation == null) {
+            summary.addValidGame();
+        } else {
+            summary.addInvalidGame(source + " game " + gameIndex + ": " + violation);
+        }
+    }
+
+    /**
+     * Reports a log that couldn't be read to the end
+     */
+    public void abort(String reason) {
+        if (inGame) {
+            fail(reason);
+            finishGame();
+        } else {
+            summary.addInvalidGame(source + ": " + reason);
+        }
+    }
+
+    /**
+     * Human moves are checked with checkValidTrick, the computer players pick from getValidCards,
+     * which also lets a player follow suit low while holding trumps. Either makes a legal play.
+     */
+    private boolean isValidPlay(int card, long hand) {
+        return TrickHelper.checkValidTrick(card, hand, leadCard, trumpSuit)
+                || (TrickHelper.getValidCards(hand, leadCard, trumpSuit) & CardSet.kindMask(card)) != CardSet.EMPTY;
+    }
+
+    private boolean isPlayer(int player) {
+        return player >= 0 && player < NB_PLAYERS;
+    }
+
+    private void fail(String message) {
+        if (violation == null) {
+            violation = message;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 public abstract class GameState {
-    protected Pinochle gameContext;
+    protected GameContext gameContext;
 
-    public GameState(Pinochle gameContext) {
+    public GameState(GameContext gameContext) {
         this.gameContext = gameContext;
     }
 
@@ -0,0 +1,202 @@
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of hand evaluations keyed by a packed hand code (see getKey), safe to share by
+ * any number of threads. The table is set associative: a key can only live in the WAYS slots of
+ * its set, and a full set evicts with the CLOCK policy, skipping and clearing the slots read since
+ * the hand last passed. Sets are guarded by striped locks, so threads rarely wait on each other.
+ * Hits, misses and evictions are counted.
+ *
+ * Keys are canonical: both copies of a card kind are the same card, and suits that play the same
+ * role for the evaluation (symmetricSuits) are put in a fixed order, so hands that only differ by
+ * a permutation of those suits share one entry.
+ */
+public final class HandEvaluationCache {
+    public static final long NO_VALUE = Long.MIN_VALUE;
+
+    private static final int WAYS = 8;
+    private static final int NB_STRIPES = 64;
+    private static final int NB_RANKS = Rank.values().length;
+    private static final int SUIT_BITS = 2 * NB_RANKS;
+    private static final long RANKS_MASK = (1L << NB_RANKS) - 1;
+
+    // Slot states
+    private static final byte EMPTY = 0;
+    private static final byte PRESENT = 1;
+    private static final byte REFERENCED = 2;
+
+    private final int setMask;
+    private final long[] keys;
+    private final long[] values;
+    private final byte[] states;
+    // Next slot the CLOCK hand of every set looks at
+    private final byte[] clockHands;
+    private final Object[] stripes = new Object[NB_STRIPES];
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder size = new LongAdder();
+
+    /**
+     * A cache of at least the given number of entries, rounded up to a power of two
+     */
+    public HandEvaluationCache(int capacity) {
+        int nbSets = Integer.highestOneBit(Math.max(1, (capacity + WAYS - 1) / WAYS - 1) << 1);
+        this.setMask = nbSets - 1;
+        this.keys = new long[nbSets * WAYS];
+        this.values = new long[nbSets * WAYS];
+        this.states = new byte[nbSets * WAYS];
+        this.clockHands = new byte[nbSets];
+        for (int i = 0; i < NB_STRIPES; i++) {
+            stripes[i] = new Object();
+        }
+    }
+
+    /**
+     * The value cached for the key, or NO_VALUE
+     */
+    public long get(long key) {
+        int set = setOf(key);
+        synchronized (stripes[set & (NB_STRIPES - 1)]) {
+            for (int slot = set * WAYS; slot < (set + 1) * WAYS; slot++) {
+                if (states[slot] != EMPTY && keys[slot] == key) {
+                    states[slot] = REFERENCED;
+                    hits.increment();
+                    return values[slot];
+                }
+            }
+        }
+        misses.increment();
+        return NO_VALUE;
+    }
+
+    public void put(long key, long value) {
+        int set = setOf(key);
+        synchronized (stripes[set & (NB_STRIPES - 1)]) {
+            int firstSlot = set * WAYS;
+            int freeSlot = -1;
+            for (int slot = firstSlot; slot < firstSlot + WAYS; slot++) {
+                if (states[slot] == EMPTY) {
+                    freeSlot = freeSlot < 0 ? slot : freeSlot;
+                } else if (keys[slot] == key) {
+                    values[slot] = value;
+                    return;
+                }
+            }
+            if (freeSlot < 0) {
+                // CLOCK: give the referenced slots a second chance, evict the first one that isn't
+                int way = clockHands[set];
+                while (states[firstSlot + way] == REFERENCED) {
+                    states[firstSlot + way] = PRESENT;
+                    way = (way + 1) % WAYS;
+                }
+                freeSlot = firstSlot + way;
+                clockHands[set] = (byte) ((way + 1) % WAYS);
+                evictions.increment();
+            } else {
+                size.increment();
+            }
+            keys[freeSlot] = key;
+            values[freeSlot] = value;
+            states[freeSlot] = PRESENT;
+        }
+    }
+
+    private int setOf(long key) {
+        // Murmur3 finalizer, canonical keys share most of their bits
+        key = (key ^ (key >>> 33)) * 0xff51afd7ed558ccdL;
+        key = (key ^ (key >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return (int) (key ^ (key >>> 33)) & setMask;
+    }
+
+    public int getCapacity() {
+        return keys.length;
+    }
+
+    /**
+     * Number of entries, at most the capacity
+     */
+    public int size() {
+        return size.intValue();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        long nbHits = getHits();
+        long nbLookups = nbHits + getMisses();
+        return String.format("%d/%d entries, hits %d, misses %d (%.1f%% hits), evictions %d", size(),
+                getCapacity(), nbHits, getMisses(), nbLookups == 0 ? 0 : 100.0 * nbHits / nbLookups, getEvictions());
+    }
+
+    /**
+     * Packed key of the hand with the trump suit: the canonical hand in the low 48 bits and the
+     * trump suit index in the 2 bits above
+     */
+    public static long getKey(long hand, int trumpIndex, int symmetricSuits) {
+        return canonicalize(hand, symmetricSuits) | (long) trumpIndex << CardData.NB_CARDS;
+    }
+
+    /**
+     * The hand with the first copy of every kind held and the second copy of every kind held twice,
+     * and the suits of the symmetricSuits bit mask (by suit index) reordered so that their patterns
+     * go down with the suit index. It has the same cards as the hand up to those symmetries.
+     */
+    public static long canonicalize(long hand, int symmetricSuits) {
+        long kindsHeld = CardSet.kindsAtLeastOne(hand) | CardSet.kindsBoth(hand) << CardSet.NB_KINDS;
+        if (Integer.bitCount(symmetricSuits) < 2) {
+            return kindsHeld;
+        }
+
+        // A suit's pattern: its kinds held once in the low bits, its kinds held twice above
+        int nbSuits = 0;
+        int[] suitIndexes = new int[CardData.NB_SUITS];
+        long[] patterns = new long[CardData.NB_SUITS];
+        for (int suitIndex = 0; suitIndex < CardData.NB_SUITS; suitIndex++) {
+            if ((symmetricSuits >>> suitIndex & 1) != 0) {
+                suitIndexes[nbSuits] = suitIndex;
+                patterns[nbSuits++] = suitPattern(kindsHeld, suitIndex);
+                kindsHeld &= ~suitMask(suitIndex);
+            }
+        }
+        // Insertion sort, at most 3 suits
+        for (int i = 1; i < nbSuits; i++) {
+            long pattern = patterns[i];
+            int j = i - 1;
+            for (; j >= 0 && patterns[j] < pattern; j--) {
+                patterns[j + 1] = patterns[j];
+            }
+            patterns[j + 1] = pattern;
+        }
+        for (int i = 0; i < nbSuits; i++) {
+            kindsHeld |= fromSuitPattern(patterns[i], suitIndexes[i]);
+        }
+        return kindsHeld;
+    }
+
+    private static long suitPattern(long cards, int suitIndex) {
+        int shift = suitIndex * NB_RANKS;
+        return (cards >>> shift & RANKS_MASK) | (cards >>> (shift + CardSet.NB_KINDS) & RANKS_MASK) << NB_RANKS;
+    }
+
+    private static long fromSuitPattern(long pattern, int suitIndex) {
+        int shift = suitIndex * NB_RANKS;
+        return (pattern & RANKS_MASK) << shift | (pattern >>> NB_RANKS & RANKS_MASK) << (shift + CardSet.NB_KINDS);
+    }
+
+    private static long suitMask(int suitIndex) {
+        return fromSuitPattern((1L << SUIT_BITS) - 1, suitIndex);
+    }
+}
@@ -0,0 +1,117 @@
+import java.util.Arrays;
+
+/**
+ * Features of a hand the computer's decisions are based on, computed once when the hand changes:
+ * cards, high cards (Ace, 10, King) and card points per suit, and the meld with every suit as
+ * trump. Immutable, so bidding, trump selection and discards can share it across threads.
+ */
+public final class HandProfile {
+    /**
+     * Order suits are compared in, the first wins equal counts. Kept from the original map based
+     * implementation so seeded games don't change.
+     */
+    static final int[] SUIT_ORDER = { 0, 3, 2, 1 };
+
+    private final long hand;
+    private final boolean useAdditionalMelds;
+    private final int[] suitCounts = new int[CardData.NB_SUITS];
+    private final int[] highCardCounts = new int[CardData.NB_SUITS];
+    private final int[] suitPoints = new int[CardData.NB_SUITS];
+    private final int[] meldScores = new int[CardData.NB_SUITS];
+    // Suit indexes with the most cards in SUIT_ORDER, and the suit with the most high cards
+    private final int[] majoritySuits;
+    private final int bestHighCardSuit;
+
+    public HandProfile(long hand, boolean useAdditionalMelds) {
+        this.hand = hand;
+        this.useAdditionalMelds = useAdditionalMelds;
+        for (long cards = hand; cards != CardSet.EMPTY; cards &= cards - 1) {
+            int card = CardSet.first(cards);
+            int suitIndex = CardData.getSuitIndex(card);
+            Rank rank = CardData.getRank(card);
+            suitCounts[suitIndex]++;
+            suitPoints[suitIndex] += rank.getScoreValue();
+            if (rank == Rank.ACE || rank == Rank.TEN || rank == Rank.KING) {
+                highCardCounts[suitIndex]++;
+            }
+        }
+        for (int suitIndex = 0; suitIndex < CardData.NB_SUITS; suitIndex++) {
+            meldScores[suitIndex] = MeldRegistry.getTemplate(useAdditionalMelds,
+                    Suit.values()[suitIndex].getSuitShortHand()).score(hand);
+        }
+
+        int maxCount = 0;
+        int nbMajoritySuits = 0;
+        int[] tiedSuits = new int[CardData.NB_SUITS];
+        int bestSuit = SUIT_ORDER[0];
+        for (int suitIndex : SUIT_ORDER) {
+            if (suitCounts[suitIndex] > maxCount || nbMajoritySuits == 0) {
+                maxCount = suitCounts[suitIndex];
+                nbMajoritySuits = 0;
+            }
+            if (suitCounts[suitIndex] == maxCount) {
+                tiedSuits[nbMajoritySuits++] = suitIndex;
+            }
+            if (highCardCounts[suitIndex] > highCardCounts[bestSuit]) {
+                bestSuit = suitIndex;
+            }
+        }
+        this.majoritySuits = Arrays.copyOf(tiedSuits, nbMajoritySuits);
+        this.bestHighCardSuit = bestSuit;
+    }
+
+    public long getHand() {
+        return hand;
+    }
+
+    public boolean useAdditionalMelds() {
+        return useAdditionalMelds;
+    }
+
+    public int getSuitCount(int suitIndex) {
+        return suitCounts[suitIndex];
+    }
+
+    public int getHighCardCount(int suitIndex) {
+        return highCardCounts[suitIndex];
+    }
+
+    /**
+     * Points of the hand's cards of the suit, by rank score value
+     */
+    public int getSuitPoints(int suitIndex) {
+        return suitPoints[suitIndex];
+    }
+
+    /**
+     * Meld of the whole hand with the suit as trump
+     */
+    public int getMeldScore(int trumpIndex) {
+        return meldScores[trumpIndex];
+    }
+
+    /**
+     * Points of the suit's cards plus the meld with the suit as trump
+     */
+    public int getSuitValue(int suitIndex) {
+        return suitPoints[suitIndex] + meldScores[suitIndex];
+    }
+
+    public int getNbMajoritySuits() {
+        return majoritySuits.length;
+    }
+
+    /**
+     * The suits with the most cards, in SUIT_ORDER
+     */
+    public int getMajoritySuit(int index) {
+        return majoritySuits[index];
+    }
+
+    /**
+     * The suit with the most high cards, the first in SUIT_ORDER on equal counts
+     */
+    public int getBestHighCardSuit() {
+        return bestHighCardSuit;
+    }
+}
@@ -0,0 +1,518 @@
+import java.util.*;
+
+/**
+ * Runs the full game state pipeline on plain card data, without any JGameGrid classes,
+ * UI updates or delays. Produces the same GameLogger output as the GUI game.
+ */
+public class HeadlessPinochle implements GameContext {
+    final GameConfig config;
+    private final RuleContext rules;
+    private GameState currentState;
+
+    final GameLogger gameLogger = new GameLogger();
+
+    // Constants
+    public final int nbPlayers = 2;
+    public final int nbStartCards = 12;
+
+    // Player strategies, every seat is played by the computer
+    private final BiddingStrategy[] biddingStrategies;
+    private final TrickTakingStrategy[] trickTakingStrategies;
+
+    // Latency of the game states and strategy calls, only measured once metrics are set
+    private LatencyMetrics latencyMetrics = null;
+    private final LatencyHistogram[] bidLatencies = new LatencyHistogram[nbPlayers];
+    private final LatencyHistogram[] selectCardLatencies = new LatencyHistogram[nbPlayers];
+
+    // Game variables
+    private final long[] hands = new long[nbPlayers];
+    private final List<List<Integer>> trickWinningHands = new ArrayList<>();
+    private final List<Integer> playingArea = new ArrayList<>();
+    private final List<Integer> stockpile = new ArrayList<>();
+    private long playedCards = CardSet.EMPTY;
+    private final List<List<String>> playerAutoMovements = new ArrayList<>();
+    private final int[] scores = new int[nbPlayers];
+    private final int[] meldScores = new int[nbPlayers];
+    private final int[] autoIndexHands = new int[nbPlayers];
+    private String trumpSuit = null;
+    private int currentBid = 0;
+    private int bidWinPlayerIndex = 0;
+    private List<Integer> winners = new ArrayList<>();
+
+    public HeadlessPinochle(Properties properties) {
+        this(new GameConfig(properties));
+    }
+
+    /**
+     * The strategies search without time budget, so the game is the same on any machine
+     */
+    public HeadlessPinochle(GameConfig config) {
+        this(config, new RuleContext(config));
+    }
+
+    public HeadlessPinochle(GameConfig config, RuleContext rules) {
+        this(config, rules, createBiddingStrategies(config, rules), createTrickTakingStrategies(config, rules));
+    }
+
+    /**
+     * The strategies should be created with the same rule context so they share the game's random numbers
+     */
+    public HeadlessPinochle(GameConfig config, RuleContext rules, BiddingStrategy[] biddingStrategies,
+                            TrickTakingStrategy[] trickTakingStrategies) {
+        this.config = config;
+        this.rules = rules;
+        this.biddingStrategies = biddingStrategies;
+        this.trickTakingStrategies = trickTakingStrategies;
+        currentState = null;
+    }
+
+    // Player 0 is set up like the computer player of the GUI game, player 1 plays randomly
+    private static BiddingStrategy[] createBiddingStrategies(GameConfig config, RuleContext rules) {
+        return new BiddingStrategy[] {
+                BiddingStrategyFactory.createStrategy(
+                        config.getPlayer0BiddingStrategy(),
+                        BiddingManager.BID_SELECTION_VALUE,
+                        BiddingManager.MAX_SINGLE_BID,
+                        rules, 0),
+                BiddingStrategyFactory.createStrategy(
+                        BiddingStrategyFactory.RANDOM_BIDDING,
+                        BiddingManager.BID_SELECTION_VALUE,
+                        BiddingManager.MAX_SINGLE_BID,
+                        rules, 1)
+        };
+    }
+
+    private static TrickTakingStrategy[] createTrickTakingStrategies(GameConfig config, RuleContext rules) {
+        return new TrickTakingStrategy[] {
+                TrickTakingStrategyFactory.createStrategy(
+                        config.isSmartTrickMode() ? TrickTakingStrategyFactory.SMART_TRICK_TAKING : TrickTakingStrategyFactory.RANDOM_TRICK_TAKING,
+                        rules, 0),
+                TrickTakingStrategyFactory.createStrategy(TrickTakingStrategyFactory.RANDOM_TRICK_TAKING, rules, 1)
+        };
+    }
+
+    public void performBidding() {
+        currentBid = 0;
+        boolean isFirstBid = true;
+        boolean[] hasPassed = new boolean[nbPlayers];
+        int[] autoBidIndex = new int[nbPlayers];
+
+        int playerIndex = switch (config.getBidOrder()) {
+            case BiddingManager.RANDOM_BID -> rules.getRandom(RuleContext.BID_ORDER_STREAM, 0).nextInt(nbPlayers);
+            case BiddingManager.HUMAN_BID -> GameConfig.HUMAN_PLAYER_INDEX;
+            default -> GameConfig.COMPUTER_PLAYER_INDEX;
+        };
+
+        boolean isContinueBidding = true;
+        do {
+            for (int i = 0; i < nbPlayers; i++) {
+                int bidValue;
+                List<Integer> autoBids = config.getPlayerAutoBids(playerIndex);
+                if (config.isAuto() && autoBidIndex[playerIndex] < autoBids.size()) {
+                    bidValue = autoBids.get(autoBidIndex[playerIndex]);
+                    autoBidIndex[playerIndex]++;
+                } else {
+                    BidFlightEvent event = new BidFlightEvent();
+                    event.begin();
+                    long startTime = System.nanoTime();
+                    bidValue = biddingStrategies[playerIndex].calculateBid(hands[playerIndex], currentBid, isFirstBid);
+                    if (latencyMetrics != null) {
+                        bidLatencies[playerIndex].record(System.nanoTime() - startTime);
+                    }
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.set(biddingStrategies[playerIndex], playerIndex, currentBid, bidValue, isFirstBid);
+                        event.commit();
+                    }
+                }
+                if (bidValue == 0) {
+                    hasPassed[playerIndex] = true;
+                } else {
+                    currentBid += bidValue;
+                }
+                isFirstBid = false;
+
+                playerIndex = (playerIndex + 1) % nbPlayers;
+                isContinueBidding = !hasPassed[GameConfig.HUMAN_PLAYER_INDEX] && !hasPassed[GameConfig.COMPUTER_PLAYER_INDEX];
+                if (!isContinueBidding) {
+                    bidWinPlayerIndex = playerIndex;
+                    break;
+                }
+            }
+        } while (isContinueBidding);
+
+        gameLogger.addBidInfoToLog(bidWinPlayerIndex, currentBid);
+    }
+
+    public void performTrumpSelection() {
+        TrumpSelectionFlightEvent event = new TrumpSelectionFlightEvent();
+        event.begin();
+        selectTrumpSuit();
+        event.end();
+        if (event.shouldCommit()) {
+            event.player = bidWinPlayerIndex;
+            event.trumpSuit = trumpSuit;
+            event.commit();
+        }
+    }
+
+    private void selectTrumpSuit() {
+        if (config.isAuto()) {
+            trumpSuit = config.getTrumpSuit();
+            return;
+        }
+
+        long hand = hands[bidWinPlayerIndex];
+        TrumpSuitSelector selector = TrumpSuitSelector.getUnboundedInstance(rules.useAdditionalMelds());
+        if (biddingStrategies[bidWinPlayerIndex] instanceof MonteCarloBiddingStrategy monteCarloStrategy) {
+            // The suit its bids were made on
+            trumpSuit = monteCarloStrategy.determineLikelyTrumpSuit(hand);
+        } else if (biddingStrategies[bidWinPlayerIndex] instanceof SmartBiddingStrategy smartStrategy) {
+            // The profile its bids were made on
+            trumpSuit = selector.selectTrumpSuit(smartStrategy.getHandProfile(hand));
+        } else {
+            trumpSuit = selector.selectTrumpSuit(new HandProfile(hand, rules.useAdditionalMelds()));
+        }
+    }
+
+    public void performCutThroatMode() {
+        // Add the predetermined extra cards
+        for (int i = 0; i < nbPlayers; i++) {
+            for (String cardName : config.getPlayerExtraCards(i)) {
+                int card = TrickHelper.getCardIdFromString(stockpile, cardName);
+                if (card != CardData.NO_CARD) {
+                    stockpile.remove(Integer.valueOf(card));
+                    hands[i] = CardSet.add(hands[i], card);
+                }
+            }
+        }
+
+        // Draw 2 face-up cards from stockpile, the bid winner picks one and the dealer gets the other
+        List<Integer> faceUpCards = new ArrayList<>();
+        for (int i = 0; i < 2 && !stockpile.isEmpty(); i++) {
+            faceUpCards.add(stockpile.remove(0));
+        }
+        int selectedStockpileCard = selectStockpileCard(faceUpCards);
+        if (selectedStockpileCard != CardData.NO_CARD) {
+            hands[bidWinPlayerIndex] = CardSet.add(hands[bidWinPlayerIndex], selectedStockpileCard);
+            int dealerIndex = 1 - bidWinPlayerIndex;
+            for (int card : faceUpCards) {
+                if (card != selectedStockpileCard) {
+                    hands[dealerIndex] = CardSet.add(hands[dealerIndex], card);
+                    break;
+                }
+            }
+        }
+
+        // Distribute remaining stockpile cards alternately (bid winner first)
+        int currentPlayer = bidWinPlayerIndex;
+        while (!stockpile.isEmpty()) {
+            hands[currentPlayer] = CardSet.add(hands[currentPlayer], stockpile.remove(0));
+            currentPlayer = (currentPlayer + 1) % nbPlayers;
+        }
+
+        // Each player keeps 12 cards
+        for (int i = 0; i < nbPlayers; i++) {
+            HandProfile profile = new HandProfile(hands[i], rules.useAdditionalMelds());
+            List<Integer> cardsToDiscard = config.isSmartDiscardMode()
+                    ? CutthroatHelper.searchCardsToDiscard(profile, trumpSuit, nbStartCards,
+                            rules.getTimeBudget(CutthroatKeepSearch.DEFAULT_TIME_BUDGET_MILLIS), rules.getSearchPool())
+                    : CutthroatHelper.selectCardsToDiscard(profile, trumpSuit, nbStartCards);
+            for (int card : cardsToDiscard) {
+                hands[i] = CardSet.remove(hands[i], card);
+            }
+        }
+    }
+
+    private int selectStockpileCard(List<Integer> faceUpCards) {
+        if (config.isAuto()) {
+            List<String> computerExtraCards = config.getPlayer0ExtraCards();
+            if (!computerExtraCards.isEmpty()) {
+                String cardName = computerExtraCards.get(0);
+                for (int card : faceUpCards) {
+                    if (CardData.getCardName(card).equals(cardName)) {
+                        return card;
+                    }
+                }
+            }
+        }
+
+        if (config.isSmartDiscardMode() && faceUpCards.size() > 1) {
+            long seed = rules.getRandom(RuleContext.CUTTHROAT_STREAM, bidWinPlayerIndex).nextLong();
+            StockpilePickSimulator simulator = new StockpilePickSimulator(trumpSuit, rules.useAdditionalMelds(),
+                    rules.getTimeBudget(StockpilePickSimulator.DEFAULT_TIME_BUDGET_MILLIS),
+                    StockpilePickSimulator.DEFAULT_MAX_SAMPLES, rules.getSearchPool());
+            return faceUpCards.get(simulator.selectFaceUpCard(
+                    hands[bidWinPlayerIndex], faceUpCards, stockpile.size(), nbStartCards, seed));
+        }
+
+        // Default: choose first available card
+        return faceUpCards.isEmpty() ? CardData.NO_CARD : faceUpCards.get(0);
+    }
+
+    public void performMelding() {
+        playedCards = CardSet.EMPTY;
+        for (TrickTakingStrategy strategy : trickTakingStrategies) {
+            strategy.reset();
+        }
+
+        for (int i = 0; i < nbPlayers; i++) {
+            scores[i] = MeldScores.calculateMeldingScore(hands[i], trumpSuit, rules.useAdditionalMelds());
+            meldScores[i] = scores[i];
+        }
+        gameLogger.addTrumpInfoToLog(trumpSuit, scores);
+        List<List<Integer>> handCards = new ArrayList<>();
+        for (long hand : hands) {
+            handCards.add(CardSet.toList(hand));
+        }
+        gameLogger.addPlayerCardsToLog(handCards, nbPlayers);
+    }
+
+    public void performTrickTaking() {
+        int nextPlayer = bidWinPlayerIndex;
+        int numberOfCards = CardSet.size(hands[GameConfig.COMPUTER_PLAYER_INDEX]);
+
+        for (int i = 0; i < numberOfCards; i++) {
+            gameLogger.addRoundInfoToLog(i);
+
+            for (int j = 0; j < nbPlayers; j++) {
+                int selected = playTurnForPlayer(nextPlayer);
+
+                if (selected != CardData.NO_CARD) {
+                    hands[nextPlayer] = CardSet.remove(hands[nextPlayer], selected);
+                    playedCards = CardSet.add(playedCards, selected);
+                    gameLogger.addCardPlayedToLog(nextPlayer, selected);
+                    playingArea.add(selected);
+
+                    if (playingArea.size() == 2) {
+                        int trickWinnerIndex = TrickWinnerCalculator.checkWinner(
+                                playingArea.get(0), playingArea.get(1), trumpSuit, nextPlayer);
+                        gameLogger.addTrickWonToLog(trickWinnerIndex);
+                        trickWinningHands.get(trickWinnerIndex).addAll(playingArea);
+                        playingArea.clear();
+                        nextPlayer = trickWinnerIndex;
+                    } else {
+                        nextPlayer = (nextPlayer + 1) % nbPlayers;
+                    }
+                }
+            }
+        }
+        updateTrickScore();
+    }
+
+    public void performGameOver() {
+        int maxScore = 0;
+        for (int i = 0; i < nbPlayers; i++) if (scores[i] > maxScore) maxScore = scores[i];
+        winners = new ArrayList<>();
+        for (int i = 0; i < nbPlayers; i++) if (scores[i] == maxScore) winners.add(i);
+        gameLogger.addEndOfGameToLog(trickWinningHands, scores, winners, nbPlayers);
+    }
+
+    private void initGame() {
+        gameLogger.addGameStartToLog();
+        Arrays.fill(hands, CardSet.EMPTY);
+        trickWinningHands.clear();
+        for (int i = 0; i < nbPlayers; i++) {
+            trickWinningHands.add(new ArrayList<>());
+        }
+        playingArea.clear();
+        stockpile.clear();
+        Arrays.fill(scores, 0);
+        Arrays.fill(meldScores, 0);
+        Arrays.fill(autoIndexHands, 0);
+
+        playerAutoMovements.clear();
+        playerAutoMovements.add(config.getPlayer0CardsPlayed());
+        playerAutoMovements.add(config.getPlayer1CardsPlayed());
+
+        dealingOut(nbStartCards);
+    }
+
+    private void dealingOut(int nbCardsPerPlayer) {
+        List<Integer> pack = CardData.newPack();
+
+        for (int i = 0; i < nbPlayers; i++) {
+            List<String> initialCards = config.getPlayerInitialCards(i);
+            for (String initialCard : initialCards) {
+                if (initialCard.length() <= 1) {
+                    continue;
+                }
+                int card = TrickHelper.getCardIdFromString(pack, initialCard);
+                if (card != CardData.NO_CARD) {
+                    pack.remove(Integer.valueOf(card));
+                    hands[i] = CardSet.add(hands[i], card);
+                }
+            }
+        }
+
+        for (int i = 0; i < nbPlayers; i++) {
+            int cardsToDealt = nbCardsPerPlayer - CardSet.size(hands[i]);
+            for (int j = 0; j < cardsToDealt; j++) {
+                if (pack.isEmpty()) return;
+                hands[i] = CardSet.add(hands[i], pack.remove(rules.getRandom().nextInt(pack.size())));
+            }
+        }
+
+        if (config.isCutthroatMode()) {
+            stockpile.addAll(pack);
+        }
+    }
+
+    private void playGame() {
+        // First state is the bidding state
+        currentState = new BiddingState(this);
+
+        // Execute all the game states
+        while (!(currentState instanceof GameOverState)) {
+            handleState();
+        }
+        handleState(); // GameOverState
+    }
+
+    private void handleState() {
+        if (latencyMetrics != null) {
+            latencyMetrics.handleState(currentState, null);
+        } else {
+            currentState.handle();
+        }
+    }
+
+    private int playTurnForPlayer(int playerIndex) {
+        if (config.isAuto()) {
+            return selectAutoCard(playerIndex);
+        }
+
+        int selected = selectStrategyCard(playerIndex, bidWinPlayerIndex, currentBid);
+        // Like the computer in the GUI game, every player sees the cards of the other players
+        for (int i = 0; i < nbPlayers; i++) {
+            if (i != playerIndex) {
+                trickTakingStrategies[i].recordPlayedCard(selected);
+            }
+        }
+        return selected;
+    }
+
+    private int selectAutoCard(int playerIndex) {
+        List<String> movements = playerAutoMovements.get(playerIndex);
+        int autoIndex = autoIndexHands[playerIndex];
+
+        if (movements.size() > autoIndex && !movements.get(autoIndex).isEmpty()) {
+            String movement = movements.get(autoIndex);
+            autoIndexHands[playerIndex]++;
+            return applyAutoMovement(hands[playerIndex], movement);
+        }
+
+        return selectStrategyCard(playerIndex, -1, 0);
+    }
+
+    private int selectStrategyCard(int playerIndex, int bidWinnerIndex, int currentBid) {
+        if (trickTakingStrategies[playerIndex] instanceof DoubleDummyTrickTakingStrategy doubleDummyStrategy) {
+            doubleDummyStrategy.setOpponentHand(hands[(playerIndex + 1) % nbPlayers]);
+        }
+        CardSelectionFlightEvent event = new CardSelectionFlightEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        int selectedCard = trickTakingStrategies[playerIndex].selectCard(
+                hands[playerIndex],
+                playingArea,
+                trumpSuit,
+                playedCards,
+                playerIndex,
+                bidWinnerIndex,
+                currentBid
+        );
+        if (latencyMetrics != null) {
+            selectCardLatencies[playerIndex].record(System.nanoTime() - startTime);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.set(trickTakingStrategies[playerIndex], playerIndex, hands[playerIndex], playingArea, trumpSuit, selectedCard);
+            event.commit();
+        }
+
+        // Record the played card
+        trickTakingStrategies[playerIndex].recordPlayedCard(selectedCard);
+
+        return selectedCard;
+    }
+
+    private int applyAutoMovement(long hand, String movement) {
+        if (hand == CardSet.EMPTY) return CardData.NO_CARD;
+
+        String cardDealtString = movement.split("-")[0];
+        int dealt = TrickHelper.getCardIdFromString(hand, cardDealtString);
+        if (dealt == CardData.NO_CARD) {
+            System.err.println("cannot draw card: " + cardDealtString + " - hand: " + CardSet.toList(hand));
+        }
+
+        return dealt;
+    }
+
+    private void updateTrickScore() {
+        for (int i = 0; i < nbPlayers; i++) {
+            int score = 0;
+            for (int card : trickWinningHands.get(i)) {
+                score += TrickHelper.getCardScore(card, trumpSuit);
+            }
+
+            scores[i] += score;
+            if (i == bidWinPlayerIndex) {
+                if (scores[i] < currentBid) {
+                    scores[i] = 0;
+                }
+            }
+        }
+    }
+
+    public String runApp() {
+        initGame();
+        playGame();
+        return gameLogger.getLogResult();
+    }
+
+    // Getters
+    public GameConfig getConfig() {
+        return config;
+    }
+    public GameLogger getGameLogger() {
+        return gameLogger;
+    }
+    public int getBidWinPlayerIndex() {
+        return bidWinPlayerIndex;
+    }
+    public int getCurrentBid() {
+        return currentBid;
+    }
+    public String getTrumpSuit() {
+        return trumpSuit;
+    }
+    public int[] getScores() {
+        return scores.clone();
+    }
+    public int[] getMeldScores() {
+        return meldScores.clone();
+    }
+    public List<Integer> getWinners() {
+        return new ArrayList<>(winners);
+    }
+    public LatencyMetrics getLatencyMetrics() {
+        return latencyMetrics;
+    }
+
+    // Setters
+    public void setState(GameState state) {
+        StateTransitionFlightEvent.commit(currentState, state);
+        this.currentState = state;
+    }
+
+    /**
+     * Records the latency of this game into the metrics, which games running in parallel may share
+     */
+    public void setLatencyMetrics(LatencyMetrics latencyMetrics) {
+        this.latencyMetrics = latencyMetrics;
+        for (int i = 0; i < nbPlayers; i++) {
+            bidLatencies[i] = latencyMetrics.getStrategyCall(biddingStrategies[i], "calculateBid");
+            selectCardLatencies[i] = latencyMetrics.getStrategyCall(trickTakingStrategies[i], "selectCard");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Hands one human decision over from a UI callback to the game thread. The game thread opens the
+ * mailbox before enabling the controls and blocks in take(); the first value posted after that
+ * wakes it up at once. Values posted while no decision is awaited are dropped.
+ */
+public class InputMailbox<T> {
+    private CompletableFuture<T> pending = null;
+
+    public synchronized void open() {
+        pending = new CompletableFuture<>();
+    }
+
+    /**
+     * Returns false when the value was dropped: the mailbox isn't open or already has a value
+     */
+    public boolean post(T value) {
+        CompletableFuture<T> future;
+        synchronized (this) {
+            future = pending;
+        }
+        return future != null && future.complete(value);
+    }
+
+    /**
+     * Waits for the value posted since the last open()
+     */
+    public T take() {
+        CompletableFuture<T> future;
+        synchronized (this) {
+            future = pending;
+        }
+        if (future == null) {
+            throw new IllegalStateException("The mailbox must be opened before waiting for input");
+        }
+        return future.join();
+    }
+}
@@ -0,0 +1,83 @@
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Latency histograms of a game, or of many games sharing the instance: the time spent in every
+ * game state (GameState.handle), the part of it spent in clock pauses, and the time of every
+ * strategy call (BiddingStrategy.calculateBid, TrickTakingStrategy.selectCard) by strategy.
+ * Histograms are created on first use and safe to record into from any thread.
+ */
+public class LatencyMetrics {
+    private final Map<String, LatencyHistogram> phases = new ConcurrentSkipListMap<>();
+    private final Map<String, LatencyHistogram> phasePauses = new ConcurrentSkipListMap<>();
+    private final Map<String, LatencyHistogram> strategyCalls = new ConcurrentSkipListMap<>();
+
+    /**
+     * Time in a game state, by GameState.getStateName
+     */
+    public LatencyHistogram getPhase(String stateName) {
+        return phases.computeIfAbsent(stateName, name -> new LatencyHistogram());
+    }
+
+    /**
+     * Time spent in clock pauses while in a game state
+     */
+    public LatencyHistogram getPhasePauses(String stateName) {
+        return phasePauses.computeIfAbsent(stateName, name -> new LatencyHistogram());
+    }
+
+    /**
+     * Time of the calls to a strategy method, e.g. getStrategyCall(strategy, "selectCard").
+     * Callers on a hot path look the histogram up once and keep it.
+     */
+    public LatencyHistogram getStrategyCall(Object strategy, String method) {
+        return strategyCalls.computeIfAbsent(strategy.getClass().getSimpleName() + "." + method,
+                name -> new LatencyHistogram());
+    }
+
+    public Map<String, LatencyHistogram> getPhases() {
+        return phases;
+    }
+
+    public Map<String, LatencyHistogram> getStrategyCalls() {
+        return strategyCalls;
+    }
+
+    /**
+     * Times a game state and records it, with the clock pauses it made when there is a clock
+     */
+    public void handleState(GameState state, GameClock clock) {
+        long pausedBefore = clock == null ? 0 : clock.pausedMillis();
+        long startTime = System.nanoTime();
+        state.handle();
+        getPhase(state.getStateName()).record(System.nanoTime() - startTime);
+        if (clock != null) {
+            getPhasePauses(state.getStateName()).record((clock.pausedMillis() - pausedBefore) * 1_000_000L);
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-40s %8s %10s %10s %10s %12s%n", "Phase / strategy call (ms)",
+                "Count", "p50", "p99", "Max", "Pauses p50"));
+        for (Map.Entry<String, LatencyHistogram> entry : phases.entrySet()) {
+            LatencyHistogram pauses = phasePauses.get(entry.getKey());
+            appendRow(sb, entry.getKey(), entry.getValue(), pauses == null ? "" : format(pauses.getPercentile(0.5)));
+        }
+        for (Map.Entry<String, LatencyHistogram> entry : strategyCalls.entrySet()) {
+            appendRow(sb, entry.getKey(), entry.getValue(), "");
+        }
+        return sb.toString();
+    }
+
+    private static void appendRow(StringBuilder sb, String name, LatencyHistogram histogram, String pauses) {
+        sb.append(String.format("%-40s %8d %10s %10s %10s %12s%n", name, histogram.getCount(),
+                format(histogram.getPercentile(0.5)), format(histogram.getPercentile(0.99)),
+                format(histogram.getMax()), pauses));
+    }
+
+    private static String format(long nanos) {
+        return String.format("%.3f", nanos / 1e6);
+    }
+}
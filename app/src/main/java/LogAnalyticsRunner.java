@@ -0,0 +1,144 @@
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Computes LogStatistics over directories of game logs. Text logs are cut at game boundaries
+ * into chunks of about DEFAULT_CHUNK_BYTES, so one large file is still spread across the cores
+ * and only the chunks being parsed are mapped at any time, whatever the size of the input.
+ * Binary event logs are read whole, their files are already bounded by RollingEventLogWriter.
+ */
+public class LogAnalyticsRunner {
+    public static final long DEFAULT_CHUNK_BYTES = 64L << 20;
+
+    private static final byte[] GAME_START = "\nBid:".getBytes(StandardCharsets.US_ASCII);
+    private static final int PROBE_BYTES = 1 << 16;
+
+    private final int parallelism;
+    private final long chunkBytes;
+
+    public LogAnalyticsRunner(int parallelism) {
+        this(parallelism, DEFAULT_CHUNK_BYTES);
+    }
+
+    public LogAnalyticsRunner(int parallelism, long chunkBytes) {
+        this.parallelism = parallelism;
+        this.chunkBytes = chunkBytes;
+    }
+
+    /**
+     * A part of a log file holding whole games
+     */
+    static final class Chunk {
+        final Path file;
+        final long start;
+        final long end;
+        final boolean eventLog;
+
+        Chunk(Path file, long start, long end, boolean eventLog) {
+            this.file = file;
+            this.start = start;
+            this.end = end;
+            this.eventLog = eventLog;
+        }
+    }
+
+    public LogStatistics analyze(List<Path> files) throws IOException {
+        List<Chunk> chunks = new ArrayList<>();
+        for (Path file : files) {
+            split(file, chunks);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long startTime = System.nanoTime();
+            LogStatistics statistics = pool.submit(() -> chunks.parallelStream()
+                    .collect(LogStatistics::new, LogAnalyticsRunner::analyzeChunk, LogStatistics::merge)
+            ).join();
+            statistics.setElapsedNanos(System.nanoTime() - startTime);
+            return statistics;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Adds the chunks of a file, a text log is cut just before a line starting a game
+     */
+    void split(Path file, List<Chunk> chunks) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer probe = ByteBuffer.allocate(PROBE_BYTES);
+            channel.read(probe, 0);
+            if (BinaryEventDecoder.isEventLog(probe.flip())) {
+                chunks.add(new Chunk(file, 0, size, true));
+                return;
+            }
+
+            long start = 0;
+            while (start < size) {
+                long end = size;
+                long position = size - start > chunkBytes ? start + chunkBytes : size;
+                while (position < size) {
+                    // Windows overlap so a game start across two windows is still found
+                    probe.clear();
+                    channel.read(probe, position);
+                    int match = indexOf(probe.flip(), GAME_START);
+                    if (match >= 0) {
+                        end = position + match + 1;
+                        break;
+                    }
+                    position += Math.max(1, probe.limit() - GAME_START.length + 1);
+                }
+                chunks.add(new Chunk(file, start, end, false));
+                start = end;
+            }
+        }
+    }
+
+    private static int indexOf(ByteBuffer bytes, byte[] pattern) {
+        for (int i = 0; i + pattern.length <= bytes.limit(); i++) {
+            int j = 0;
+            while (j < pattern.length && bytes.get(i + j) == pattern[j]) {
+                j++;
+            }
+            if (j == pattern.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void analyzeChunk(LogStatistics statistics, Chunk chunk) {
+        try (FileChannel channel = FileChannel.open(chunk.file, StandardOpenOption.READ)) {
+            MappedByteBuffer log = channel.map(FileChannel.MapMode.READ_ONLY, chunk.start, chunk.end - chunk.start);
+            if (chunk.eventLog) {
+                BinaryEventDecoder.decode(log, statistics);
+            } else {
+                TextLogParser.parse(log, statistics);
+            }
+        } catch (IOException | IllegalArgumentException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            statistics.addUnreadableChunk(chunk.file + " at " + chunk.start + ", " + e.getMessage());
+        }
+    }
+
+    /**
+     * Usage: LogAnalyticsRunner file or directory...
+     */
+    public static void main(String[] args) throws IOException {
+        List<Path> paths = new ArrayList<>();
+        for (String arg : args) {
+            paths.add(Path.of(arg));
+        }
+        LogAnalyticsRunner runner = new LogAnalyticsRunner(Runtime.getRuntime().availableProcessors());
+        System.out.print(runner.analyze(ReplayRunner.findFiles(paths)));
+    }
+}
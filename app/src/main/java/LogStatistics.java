@@ -0,0 +1,217 @@
+import java.util.List;
+
+/**
+ * Aggregates of logged games: bid success per seat, meld scores per trump suit, trick points
+ * taken by each card and how the wins are distributed between the seats. A game only counts
+ * once its end is read, so a log cut off in the middle of a game leaves no partial game behind.
+ */
+public class LogStatistics implements GameEventListener {
+    public static final int NB_SEATS = 2;
+
+    private long nbGames = 0;
+    private long nbUnreadableChunks = 0;
+    private String firstError;
+    private final long[] bidsWon = new long[NB_SEATS];
+    private final long[] bidsMade = new long[NB_SEATS];
+    private final long[] wins = new long[NB_SEATS];
+    private long draws = 0;
+    private final long[] gamesPerTrump = new long[CardData.NB_SUITS];
+    private final long[] meldPerTrump = new long[CardData.NB_SUITS];
+    private final long[] tricksWonByCard = new long[CardSet.NB_KINDS];
+    private final long[] trickPointsByCard = new long[CardSet.NB_KINDS];
+    private long elapsedNanos = 0;
+
+    // The game being read
+    private int bidWinPlayerIndex;
+    private int bid;
+    private String trumpSuit;
+    private final int[] meldScores = new int[NB_SEATS];
+    private int leadCard;
+    private int nbTricks;
+    private final int[] trickWinningCards = new int[CardSet.NB_KINDS];
+    private final int[] trickPoints = new int[CardSet.NB_KINDS];
+
+    @Override
+    public void onGameStart() {
+        bidWinPlayerIndex = 0;
+        bid = 0;
+        trumpSuit = null;
+        meldScores[0] = 0;
+        meldScores[1] = 0;
+        leadCard = CardData.NO_CARD;
+        nbTricks = 0;
+    }
+
+    @Override
+    public void onBid(int bidWinPlayerIndex, int bid) {
+        this.bidWinPlayerIndex = bidWinPlayerIndex;
+        this.bid = bid;
+    }
+
+    @Override
+    public void onTrump(String trumpSuit) {
+        this.trumpSuit = trumpSuit;
+    }
+
+    @Override
+    public void onMeldScores(int[] meldScores) {
+        System.arraycopy(meldScores, 0, this.meldScores, 0, NB_SEATS);
+    }
+
+    @Override
+    public void onInitialCards(List<List<Integer>> hands) {
+    }
+
+    @Override
+    public void onRound(int roundNumber) {
+    }
+
+    @Override
+    public void onCardPlayed(int player, int card) {
+        int kind = CardSet.getKind(card);
+        if (leadCard == CardData.NO_CARD) {
+            leadCard = kind;
+            return;
+        }
+        if (nbTricks < trickWinningCards.length) {
+            boolean leadWins = TrickWinnerCalculator.checkWinner(leadCard, kind, trumpSuit, player) != player;
+            trickWinningCards[nbTricks] = leadWins ? leadCard : kind;
+            trickPoints[nbTricks] = TrickHelper.getCardScore(leadCard, trumpSuit) + TrickHelper.getCardScore(kind, trumpSuit);
+            nbTricks++;
+        }
+        leadCard = CardData.NO_CARD;
+    }
+
+    @Override
+    public void onTrickWon(int player) {
+    }
+
+    @Override
+    public void onGameEnd(List<List<Integer>> trickWinningHands, int[] scores, List<Integer> winners) {
+        nbGames++;
+        bidsWon[bidWinPlayerIndex]++;
+        if (scores[bidWinPlayerIndex] >= bid) {
+            bidsMade[bidWinPlayerIndex]++;
+        }
+        if (winners.size() == 1) {
+            wins[winners.get(0)]++;
+        } else {
+            draws++;
+        }
+        int trump = CardData.getSuitIndex(trumpSuit);
+        gamesPerTrump[trump]++;
+        meldPerTrump[trump] += meldScores[0] + meldScores[1];
+        for (int trick = 0; trick < nbTricks; trick++) {
+            tricksWonByCard[trickWinningCards[trick]]++;
+            trickPointsByCard[trickWinningCards[trick]] += trickPoints[trick];
+        }
+    }
+
+    /**
+     * Records a part of the logs that couldn't be read to the end
+     */
+    public void addUnreadableChunk(String error) {
+        nbUnreadableChunks++;
+        if (firstError == null) {
+            firstError = error;
+        }
+    }
+
+    public void merge(LogStatistics other) {
+        nbGames += other.nbGames;
+        nbUnreadableChunks += other.nbUnreadableChunks;
+        if (firstError == null) {
+            firstError = other.firstError;
+        }
+        draws += other.draws;
+        for (int i = 0; i < NB_SEATS; i++) {
+            bidsWon[i] += other.bidsWon[i];
+            bidsMade[i] += other.bidsMade[i];
+            wins[i] += other.wins[i];
+        }
+        for (int i = 0; i < CardData.NB_SUITS; i++) {
+            gamesPerTrump[i] += other.gamesPerTrump[i];
+            meldPerTrump[i] += other.meldPerTrump[i];
+        }
+        for (int i = 0; i < CardSet.NB_KINDS; i++) {
+            tricksWonByCard[i] += other.tricksWonByCard[i];
+            trickPointsByCard[i] += other.trickPointsByCard[i];
+        }
+    }
+
+    public long getNbGames() {
+        return nbGames;
+    }
+
+    public long getNbUnreadableChunks() {
+        return nbUnreadableChunks;
+    }
+
+    public double getBidSuccessRate(int seat) {
+        return ratio(bidsMade[seat], bidsWon[seat]);
+    }
+
+    public double getWinRate(int seat) {
+        return ratio(wins[seat], nbGames);
+    }
+
+    public double getDrawRate() {
+        return ratio(draws, nbGames);
+    }
+
+    /**
+     * Average meld score of a player in the games with the trump suit, by CardData.getSuitIndex
+     */
+    public double getAverageMeld(int trump) {
+        return ratio(meldPerTrump[trump], NB_SEATS * gamesPerTrump[trump]);
+    }
+
+    /**
+     * Tricks won by a card kind and the trick points they held
+     */
+    public long getTricksWon(int kind) {
+        return tricksWonByCard[kind];
+    }
+
+    public long getTrickPoints(int kind) {
+        return trickPointsByCard[kind];
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nbGames / (elapsedNanos / 1e9);
+    }
+
+    private static double ratio(long value, long total) {
+        return total == 0 ? 0 : (double) value / total;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Games: %d (%.0f games/s)%n", nbGames, getGamesPerSecond()));
+        if (nbUnreadableChunks > 0) {
+            sb.append(String.format("Unreadable chunks: %d, first: %s%n", nbUnreadableChunks, firstError));
+        }
+        sb.append(String.format("%-5s %8s %10s %8s%n", "Seat", "Bids", "Bid made %", "Win %"));
+        for (int i = 0; i < NB_SEATS; i++) {
+            sb.append(String.format("P%-4d %8d %10.2f %8.2f%n",
+                    i, bidsWon[i], 100 * getBidSuccessRate(i), 100 * getWinRate(i)));
+        }
+        sb.append(String.format("Draws: %.2f%%%n", 100 * getDrawRate()));
+        sb.append(String.format("%-5s %8s %10s%n", "Trump", "Games", "Avg meld"));
+        for (int i = 0; i < CardData.NB_SUITS; i++) {
+            sb.append(String.format("%-5s %8d %10.1f%n",
+                    CardData.getSuitShortHand(CardData.of(Suit.values()[i], Rank.ACE)), gamesPerTrump[i], getAverageMeld(i)));
+        }
+        sb.append(String.format("%-5s %8s %10s%n", "Card", "Tricks", "Points"));
+        for (int kind = 0; kind < CardSet.NB_KINDS; kind++) {
+            sb.append(String.format("%-5s %8d %10d%n",
+                    CardData.getCardLog(kind), tricksWonByCard[kind], trickPointsByCard[kind]));
+        }
+        return sb.toString();
+    }
+}
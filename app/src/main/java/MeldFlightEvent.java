@@ -0,0 +1,27 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event for a meld score computation of MeldScores
+ */
+@Name("pinochle.Meld")
+@Label("Meld Computation")
+@Category({ "Pinochle", "Game" })
+@Description("The meld score of a hand was computed")
+@StackTrace(false)
+public class MeldFlightEvent extends jdk.jfr.Event {
+    @Label("Trump Suit")
+    String trumpSuit;
+
+    @Label("Additional Melds")
+    boolean additionalMelds;
+
+    @Label("Hand Size")
+    int handSize;
+
+    @Label("Score")
+    int score;
+}
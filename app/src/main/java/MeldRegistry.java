@@ -0,0 +1,52 @@
+import java.util.List;
+
+/**
+ * Meld catalogue of the four trump suits under both rule sets (original and additional melds),
+ * built once from the meld factories. The catalogue is immutable, so every game and thread
+ * shares the same registry instead of going back through the factories.
+ */
+public final class MeldRegistry {
+    private static final Entry[] ORIGINAL_MELDS = new Entry[CardData.NB_SUITS];
+    private static final Entry[] ADDITIONAL_MELDS = new Entry[CardData.NB_SUITS];
+
+    private static final class Entry {
+        private final List<Meld> melds;
+        private final MeldTemplate template;
+
+        private Entry(MeldFactory factory, String trumpSuit) {
+            this.melds = List.copyOf(factory.createMelds(trumpSuit));
+            this.template = new MeldTemplate(melds, trumpSuit);
+        }
+    }
+
+    static {
+        for (int suitIndex = 0; suitIndex < CardData.NB_SUITS; suitIndex++) {
+            String trumpSuit = Suit.values()[suitIndex].getSuitShortHand();
+            ORIGINAL_MELDS[suitIndex] = new Entry(new OriginalMeldFactory(), trumpSuit);
+            ADDITIONAL_MELDS[suitIndex] = new Entry(new ExtendedMeldFactory(), trumpSuit);
+        }
+    }
+
+    private MeldRegistry() {
+    }
+
+    /**
+     * Melds sorted from the highest score down, as MeldFactory.createMelds returns them
+     */
+    public static List<Meld> getMelds(boolean useAdditionalMelds, String trumpSuit) {
+        return getEntry(useAdditionalMelds, trumpSuit).melds;
+    }
+
+    public static MeldTemplate getTemplate(boolean useAdditionalMelds, String trumpSuit) {
+        return getEntry(useAdditionalMelds, trumpSuit).template;
+    }
+
+    private static Entry getEntry(boolean useAdditionalMelds, String trumpSuit) {
+        int suitIndex = CardData.getSuitIndex(trumpSuit);
+        if (suitIndex < 0) {
+            // Not a suit, nothing is precompiled for it
+            return new Entry(useAdditionalMelds ? new ExtendedMeldFactory() : new OriginalMeldFactory(), trumpSuit);
+        }
+        return useAdditionalMelds ? ADDITIONAL_MELDS[suitIndex] : ORIGINAL_MELDS[suitIndex];
+    }
+}
@@ -0,0 +1,130 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The melds of one trump suit and rule set compiled into a fixed sequence of steps, in the
+ * order MeldFactory.createMelds returns them. Every step is a card kind count vector stored
+ * as two 24 bit planes: the kinds needing at least one copy and the kinds needing both copies.
+ * Scoring a hand walks the steps greedily and never allocates.
+ */
+public final class MeldTemplate {
+    static final String COMMON_MARRIAGE = "Common Marriage";
+
+    private static final Map<String, Integer> KIND_BY_NAME = new HashMap<>();
+
+    static {
+        for (int kind = 0; kind < CardSet.NB_KINDS; kind++) {
+            KIND_BY_NAME.put(CardData.getCardName(kind), kind);
+        }
+    }
+
+    private final int[] scores;
+    private final long[] needOne;
+    private final long[] needBoth;
+
+    MeldTemplate(List<Meld> melds, String trumpSuit) {
+        List<int[]> steps = new ArrayList<>();
+        List<Integer> stepScores = new ArrayList<>();
+        for (Meld meld : melds) {
+            if (meld.getName().equals(COMMON_MARRIAGE)) {
+                // A common marriage can be scored once per non trump suit copy
+                for (Suit suit : Suit.values()) {
+                    String shorthand = suit.getSuitShortHand();
+                    if (!shorthand.equals(trumpSuit)) {
+                        steps.add(toCounts(List.of(
+                                Rank.KING.getRankCardValue() + shorthand,
+                                Rank.QUEEN.getRankCardValue() + shorthand)));
+                        stepScores.add(meld.getScore());
+                    }
+                }
+            } else {
+                steps.add(toCounts(meld.getCards()));
+                stepScores.add(meld.getScore());
+            }
+        }
+
+        scores = new int[steps.size()];
+        needOne = new long[steps.size()];
+        needBoth = new long[steps.size()];
+        for (int i = 0; i < steps.size(); i++) {
+            int[] counts = steps.get(i);
+            scores[i] = stepScores.get(i);
+            for (int kind = 0; kind < CardSet.NB_KINDS; kind++) {
+                if (counts[kind] >= 1) needOne[i] |= 1L << kind;
+                if (counts[kind] >= 2) needBoth[i] |= 1L << kind;
+            }
+            if (counts[CardSet.NB_KINDS] > 0) {
+                // Needs a card that is not in the deck or more than two copies, it can never be melded
+                needOne[i] = needBoth[i] = -1L;
+            }
+        }
+    }
+
+    /**
+     * Count per card kind, the extra last slot counts the cards that can't be held
+     */
+    private static int[] toCounts(List<String> cardNames) {
+        int[] counts = new int[CardSet.NB_KINDS + 1];
+        for (String cardName : cardNames) {
+            Integer kind = KIND_BY_NAME.get(cardName);
+            if (kind == null) {
+                counts[CardSet.NB_KINDS]++;
+            } else if (++counts[kind] > 2) {
+                counts[CardSet.NB_KINDS]++;
+            }
+        }
+        return counts;
+    }
+
+    public int getNbSteps() {
+        return scores.length;
+    }
+
+    public int getScore(int step) {
+        return scores[step];
+    }
+
+    /**
+     * Number of copies of a card kind the step needs, 0, 1 or 2
+     */
+    public int getCount(int step, int kind) {
+        return (int) (((needOne[step] >>> kind) & 1) + ((needBoth[step] >>> kind) & 1));
+    }
+
+    public int score(long cards) {
+        long atLeastOne = CardSet.kindsAtLeastOne(cards);
+        long both = CardSet.kindsBoth(cards);
+        int totalScore = 0;
+
+        for (int i = 0; i < scores.length; i++) {
+            long one = needOne[i];
+            long two = needBoth[i];
+            if ((one & ~atLeastOne) == 0 && (two & ~both) == 0) {
+                totalScore += scores[i];
+                // Kinds used once drop from two copies to one, or from one copy to none
+                atLeastOne &= ~two & ~(one & ~both);
+                both &= ~one;
+            }
+        }
+        return totalScore;
+    }
+
+    /**
+     * Sum of the steps the cards could meld each on its own. Scoring takes every step at most
+     * once and only when its cards are there, so no subset of the cards scores more.
+     */
+    public int upperBound(long cards) {
+        long atLeastOne = CardSet.kindsAtLeastOne(cards);
+        long both = CardSet.kindsBoth(cards);
+        int totalScore = 0;
+
+        for (int i = 0; i < scores.length; i++) {
+            if ((needOne[i] & ~atLeastOne) == 0 && (needBoth[i] & ~both) == 0) {
+                totalScore += scores[i];
+            }
+        }
+        return totalScore;
+    }
+}
@@ -2,7 +2,7 @@
  * The melding game state
  */
 public class MeldingState extends GameState {
-    public MeldingState(Pinochle gameContext) {
+    public MeldingState(GameContext gameContext) {
         super(gameContext);
     }
 
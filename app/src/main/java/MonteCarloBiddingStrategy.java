@@ -0,0 +1,56 @@
+import java.util.random.RandomGenerator;
+
+/**
+ * Bids on the chance of making the contract: the hand is evaluated once by MonteCarloHandEvaluator
+ * and the strategy raises by the bid increment while the best trump suit reaches the raised bid
+ * (meld plus trick points) with at least the required probability. Trump selection takes the
+ * suit with the best expected points.
+ */
+public class MonteCarloBiddingStrategy extends SmartBiddingStrategy {
+    public static final double DEFAULT_REQUIRED_PROBABILITY = 0.5;
+
+    private final MonteCarloHandEvaluator evaluator;
+    private final int bidIncrement;
+    private final double requiredProbability;
+    private final long seed;
+    private int nbEvaluations = 0;
+
+    // The evaluation of the last hand, every bid of a game is made on the same hand
+    private long evaluatedHand = CardSet.EMPTY;
+    private MonteCarloHandEvaluator.Evaluation evaluation;
+
+    public MonteCarloBiddingStrategy(RandomGenerator random, int bidIncrement, int maxSingleBid, boolean useAdditionalMelds) {
+        this(random, bidIncrement, maxSingleBid, useAdditionalMelds,
+                new MonteCarloHandEvaluator(useAdditionalMelds), DEFAULT_REQUIRED_PROBABILITY);
+    }
+
+    public MonteCarloBiddingStrategy(RandomGenerator random, int bidIncrement, int maxSingleBid, boolean useAdditionalMelds,
+                                     MonteCarloHandEvaluator evaluator, double requiredProbability) {
+        super(random, bidIncrement, maxSingleBid, useAdditionalMelds);
+        this.seed = random.nextLong();
+        this.evaluator = evaluator;
+        this.bidIncrement = bidIncrement;
+        this.requiredProbability = requiredProbability;
+    }
+
+    @Override
+    public int calculateBid(long hand, int currentBid, boolean isFirstBid) {
+        int target = currentBid + bidIncrement;
+        MonteCarloHandEvaluator.Evaluation handEvaluation = evaluate(hand);
+        int trumpIndex = handEvaluation.getBestTrumpIndex(target);
+        return handEvaluation.getProbabilityOfReaching(trumpIndex, target) >= requiredProbability ? bidIncrement : 0;
+    }
+
+    @Override
+    String determineLikelyTrumpSuit(long hand) {
+        return Suit.values()[evaluate(hand).getBestTrumpIndex()].getSuitShortHand();
+    }
+
+    MonteCarloHandEvaluator.Evaluation evaluate(long hand) {
+        if (evaluation == null || hand != evaluatedHand) {
+            evaluation = evaluator.evaluate(hand, seed + 0x9E3779B97F4A7C15L * nbEvaluations++);
+            evaluatedHand = hand;
+        }
+        return evaluation;
+    }
+}
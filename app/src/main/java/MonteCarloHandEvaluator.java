@@ -0,0 +1,200 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Estimates what a hand is worth with every suit as trump: the exact meld plus the trick points
+ * of playouts against opponent hands dealt from the unseen cards. Every sampled deal is played
+ * out once per trump, so the suits are compared on the same deals. Samples run on a thread pool
+ * until the sample count or the time budget is reached, whichever comes first, and every sample
+ * draws its random numbers from the seed and its index.
+ */
+public class MonteCarloHandEvaluator {
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 50;
+    public static final int DEFAULT_MAX_SAMPLES = 2000;
+
+    // Trick points can't exceed the points of the whole deck
+    private static final int MAX_TRICK_POINTS = CardData.NB_CARDS * Rank.ACE.getScoreValue();
+
+    private final MeldTemplate[] meldTemplates = new MeldTemplate[CardData.NB_SUITS];
+    private final TrickRollout[] rollouts = new TrickRollout[CardData.NB_SUITS];
+    private final long timeBudgetMillis;
+    private final int maxSamples;
+    private final ForkJoinPool pool;
+
+    public MonteCarloHandEvaluator(boolean useAdditionalMelds) {
+        this(useAdditionalMelds, DEFAULT_TIME_BUDGET_MILLIS, DEFAULT_MAX_SAMPLES, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * The time budget can be RuleContext.NO_TIME_BUDGET to always take all the samples
+     */
+    public MonteCarloHandEvaluator(boolean useAdditionalMelds, long timeBudgetMillis, int maxSamples,
+                                   ForkJoinPool pool) {
+        for (int suitIndex = 0; suitIndex < CardData.NB_SUITS; suitIndex++) {
+            String trumpSuit = Suit.values()[suitIndex].getSuitShortHand();
+            meldTemplates[suitIndex] = MeldRegistry.getTemplate(useAdditionalMelds, trumpSuit);
+            rollouts[suitIndex] = new TrickRollout(trumpSuit);
+        }
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.maxSamples = maxSamples;
+        this.pool = pool;
+    }
+
+    /**
+     * Evaluates the hand of the bid winner, who leads the first trick. The same seed gives the
+     * same evaluation on any number of threads as long as the time budget doesn't cut the
+     * sampling short.
+     */
+    public Evaluation evaluate(long hand, long seed) {
+        Samples samples = new Samples(hand, seed, RuleContext.getDeadline(timeBudgetMillis));
+
+        int nbTasks = Math.max(1, pool.getParallelism());
+        List<ForkJoinTask<int[][]>> tasks = new ArrayList<>();
+        for (int i = 1; i < nbTasks; i++) {
+            tasks.add(pool.submit(samples::run));
+        }
+        // The calling thread always takes part, so there is an answer even when the pool is busy
+        int[][] trickPoints = samples.run();
+        for (ForkJoinTask<int[][]> task : tasks) {
+            int[][] taskTrickPoints = task.join();
+            for (int suitIndex = 0; suitIndex < CardData.NB_SUITS; suitIndex++) {
+                for (int points = 0; points <= MAX_TRICK_POINTS; points++) {
+                    trickPoints[suitIndex][points] += taskTrickPoints[suitIndex][points];
+                }
+            }
+        }
+
+        int[] meldScores = new int[CardData.NB_SUITS];
+        for (int suitIndex = 0; suitIndex < CardData.NB_SUITS; suitIndex++) {
+            meldScores[suitIndex] = meldTemplates[suitIndex].score(hand);
+        }
+        return new Evaluation(meldScores, trickPoints);
+    }
+
+    /**
+     * One evaluation's samples, run concurrently by several threads taking the next sample index
+     * in turn
+     */
+    private final class Samples {
+        private final long hand;
+        private final int[] unseenCards;
+        private final long seed;
+        private final long deadline;
+        private final AtomicInteger nextSample = new AtomicInteger();
+
+        private Samples(long hand, long seed, long deadline) {
+            this.hand = hand;
+            this.unseenCards = TrickRollout.toArray(CardSet.FULL & ~hand);
+            this.seed = seed;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Number of this thread's samples reaching every trick points total, by trump suit
+         */
+        int[][] run() {
+            int[][] trickPoints = new int[CardData.NB_SUITS][MAX_TRICK_POINTS + 1];
+            int[] pool = new int[unseenCards.length];
+            int handSize = CardSet.size(hand);
+            int sample;
+            while ((sample = nextSample.getAndIncrement()) < maxSamples
+                    && (sample == 0 || System.nanoTime() < deadline)) {
+                // The sample's deal and playouts only depend on its index
+                SplittableRandom random = new SplittableRandom(RuleContext.deriveSeed(seed, sample));
+                System.arraycopy(unseenCards, 0, pool, 0, pool.length);
+                long opponentHand = TrickRollout.sampleHand(pool, handSize, random);
+                for (int suitIndex = 0; suitIndex < CardData.NB_SUITS; suitIndex++) {
+                    trickPoints[suitIndex][rollouts[suitIndex].playout(hand, opponentHand, CardData.NO_CARD, true, random)]++;
+                }
+            }
+            return trickPoints;
+        }
+    }
+
+    /**
+     * Meld and the distribution of trick points of a hand, by trump suit index
+     */
+    public static final class Evaluation {
+        private final int[] meldScores;
+        // Number of samples with at least the index trick points, by trump suit
+        private final int[][] samplesReaching;
+        private final int nbSamples;
+
+        private Evaluation(int[] meldScores, int[][] trickPoints) {
+            this.meldScores = meldScores;
+            this.samplesReaching = new int[CardData.NB_SUITS][MAX_TRICK_POINTS + 2];
+            for (int suitIndex = 0; suitIndex < CardData.NB_SUITS; suitIndex++) {
+                for (int points = MAX_TRICK_POINTS; points >= 0; points--) {
+                    samplesReaching[suitIndex][points] = samplesReaching[suitIndex][points + 1] + trickPoints[suitIndex][points];
+                }
+            }
+            this.nbSamples = samplesReaching[0][0];
+        }
+
+        public int getNbSamples() {
+            return nbSamples;
+        }
+
+        public int getMeldScore(int trumpIndex) {
+            return meldScores[trumpIndex];
+        }
+
+        /**
+         * Average meld plus trick points with the suit as trump
+         */
+        public double getExpectedPoints(int trumpIndex) {
+            long total = 0;
+            for (int points = 1; points <= MAX_TRICK_POINTS; points++) {
+                total += samplesReaching[trumpIndex][points];
+            }
+            return meldScores[trumpIndex] + (double) total / nbSamples;
+        }
+
+        /**
+         * Chance that meld plus trick points reach the given points with the suit as trump
+         */
+        public double getProbabilityOfReaching(int trumpIndex, int points) {
+            int trickPoints = points - meldScores[trumpIndex];
+            if (trickPoints <= 0) {
+                return 1;
+            }
+            if (trickPoints > MAX_TRICK_POINTS) {
+                return 0;
+            }
+            return (double) samplesReaching[trumpIndex][trickPoints] / nbSamples;
+        }
+
+        /**
+         * Suit with the best chance of reaching the points, the best expected points on ties
+         */
+        public int getBestTrumpIndex(int points) {
+            int bestIndex = 0;
+            for (int suitIndex = 1; suitIndex < CardData.NB_SUITS; suitIndex++) {
+                double probability = getProbabilityOfReaching(suitIndex, points);
+                double bestProbability = getProbabilityOfReaching(bestIndex, points);
+                if (probability > bestProbability
+                        || probability == bestProbability && getExpectedPoints(suitIndex) > getExpectedPoints(bestIndex)) {
+                    bestIndex = suitIndex;
+                }
+            }
+            return bestIndex;
+        }
+
+        /**
+         * Suit with the best expected points
+         */
+        public int getBestTrumpIndex() {
+            int bestIndex = 0;
+            for (int suitIndex = 1; suitIndex < CardData.NB_SUITS; suitIndex++) {
+                if (getExpectedPoints(suitIndex) > getExpectedPoints(bestIndex)) {
+                    bestIndex = suitIndex;
+                }
+            }
+            return bestIndex;
+        }
+    }
+}
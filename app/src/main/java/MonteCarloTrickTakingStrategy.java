@@ -0,0 +1,197 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGenerator;
+
+/**
+ * Determinized Monte Carlo trick taking: the opponent's unseen cards are sampled many times
+ * consistently with our hand, the played cards and what the opponent's plays revealed, and every
+ * candidate card is played out against the same samples. Playouts run on a thread pool until the
+ * sample count or the per-move time budget is reached, whichever comes first. Every sample draws
+ * its random numbers from the decision's seed and its index, so without time budget the choice
+ * doesn't depend on the number of threads. The card with the best average trick points wins.
+ */
+public class MonteCarloTrickTakingStrategy implements TrickTakingStrategy {
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 100;
+    public static final int DEFAULT_MAX_SAMPLES = 500;
+
+    private static final long KIND_MASK = (1L << CardSet.NB_KINDS) - 1;
+
+    private final ForkJoinPool pool;
+    private final long timeBudgetMillis;
+    private final int maxSamples;
+    private final long seed;
+    private int nbDecisions = 0;
+
+    // What the opponent's plays revealed: cards they can't be holding
+    private long opponentExcludedCards = CardSet.EMPTY;
+    private int pendingLeadCard = CardData.NO_CARD;
+    private String trumpSuit;
+
+    public MonteCarloTrickTakingStrategy(RandomGenerator random) {
+        this(random, DEFAULT_TIME_BUDGET_MILLIS, DEFAULT_MAX_SAMPLES, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * The time budget can be RuleContext.NO_TIME_BUDGET to always play all the samples
+     */
+    public MonteCarloTrickTakingStrategy(RandomGenerator random, long timeBudgetMillis, int maxSamples,
+                                         ForkJoinPool pool) {
+        this.seed = random.nextLong();
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.maxSamples = maxSamples;
+        this.pool = pool;
+    }
+
+    @Override
+    public int selectCard(long playerHand, List<Integer> playingAreaCards, String trumpSuit,
+                          long playedCards, int playerIndex, int bidWinnerIndex, int currentBid) {
+        long deadline = RuleContext.getDeadline(timeBudgetMillis);
+        this.trumpSuit = trumpSuit;
+        pendingLeadCard = CardData.NO_CARD;
+
+        int leadCard = TrickHelper.getLeadCard(playingAreaCards);
+        long validCards = TrickHelper.getValidCards(playerHand, leadCard, trumpSuit);
+        // Both copies of a card kind play the same, keep one candidate per kind
+        long candidates = validCards & ~((validCards & KIND_MASK) << CardSet.NB_KINDS);
+        if (CardSet.size(candidates) <= 1) {
+            return rememberLead(CardSet.first(candidates), leadCard);
+        }
+
+        long unseenCards = CardSet.FULL & ~playerHand & ~playedCards & ~CardSet.of(playingAreaCards);
+        int opponentHandSize = CardSet.size(playerHand) - (leadCard == CardData.NO_CARD ? 0 : 1);
+        long samplingPool = unseenCards & ~opponentExcludedCards;
+        if (CardSet.size(samplingPool) < opponentHandSize) {
+            samplingPool = unseenCards;
+        }
+
+        long decisionSeed = seed + 0x9E3779B97F4A7C15L * nbDecisions++;
+        Playouts search = new Playouts(playerHand, samplingPool, opponentHandSize, leadCard, candidates,
+                trumpSuit, decisionSeed, deadline);
+        int nbTasks = Math.max(1, pool.getParallelism());
+        List<ForkJoinTask<long[]>> tasks = new ArrayList<>();
+        for (int i = 1; i < nbTasks; i++) {
+            tasks.add(pool.submit(search::run));
+        }
+        // The calling thread always takes part, so there is an answer even when the pool is busy
+        long[] totals = search.run();
+        for (ForkJoinTask<long[]> task : tasks) {
+            long[] taskTotals = task.join();
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += taskTotals[i];
+            }
+        }
+
+        int bestCard = CardData.NO_CARD;
+        long bestTotal = Long.MIN_VALUE;
+        int candidateIndex = 0;
+        for (long cards = candidates; cards != CardSet.EMPTY; cards &= cards - 1, candidateIndex++) {
+            if (totals[candidateIndex] > bestTotal) {
+                bestTotal = totals[candidateIndex];
+                bestCard = CardSet.first(cards);
+            }
+        }
+        return rememberLead(bestCard, leadCard);
+    }
+
+    private int rememberLead(int card, int leadCard) {
+        if (leadCard == CardData.NO_CARD) {
+            pendingLeadCard = card;
+        }
+        return card;
+    }
+
+    /**
+     * Learns from the opponent following our lead. Only facts that hold under both the strict
+     * (getValidCards) and the lenient (checkValidTrick) rules are kept.
+     */
+    @Override
+    public void recordPlayedCard(int card) {
+        if (pendingLeadCard == CardData.NO_CARD || card == pendingLeadCard) {
+            return;
+        }
+        int leadCard = pendingLeadCard;
+        pendingLeadCard = CardData.NO_CARD;
+
+        if (!CardSet.contains(CardSet.higherMask(leadCard), card)) {
+            // Didn't beat the lead in its suit, so they hold no higher card of that suit
+            opponentExcludedCards |= CardSet.higherMask(leadCard);
+
+            int trumpIndex = CardData.getSuitIndex(trumpSuit);
+            int leadSuit = CardData.getSuitIndex(leadCard);
+            int cardSuit = CardData.getSuitIndex(card);
+            if (leadSuit != trumpIndex && cardSuit != trumpIndex && cardSuit != leadSuit) {
+                // Neither followed nor trumped a non trump lead, so they hold no trump
+                opponentExcludedCards |= CardSet.suitMask(trumpIndex);
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        opponentExcludedCards = CardSet.EMPTY;
+        pendingLeadCard = CardData.NO_CARD;
+    }
+
+    /**
+     * One decision's playouts, run concurrently by several threads taking the next sample index
+     * in turn
+     */
+    private final class Playouts {
+        private final long playerHand;
+        private final int[] samplingPool;
+        private final int opponentHandSize;
+        private final int leadCard;
+        private final int[] candidates;
+        private final TrickRollout rollout;
+        private final long decisionSeed;
+        private final long deadline;
+        private final AtomicInteger nextSample = new AtomicInteger();
+
+        private Playouts(long playerHand, long samplingPool, int opponentHandSize, int leadCard,
+                         long candidates, String trumpSuit, long decisionSeed, long deadline) {
+            this.playerHand = playerHand;
+            this.samplingPool = TrickRollout.toArray(samplingPool);
+            this.opponentHandSize = opponentHandSize;
+            this.leadCard = leadCard;
+            this.candidates = TrickRollout.toArray(candidates);
+            this.rollout = new TrickRollout(trumpSuit);
+            this.decisionSeed = decisionSeed;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Total trick points of every candidate over the samples this thread played
+         */
+        long[] run() {
+            long[] totals = new long[candidates.length];
+            int[] pool = new int[samplingPool.length];
+            int sample;
+            while ((sample = nextSample.getAndIncrement()) < maxSamples
+                    && (sample == 0 || System.nanoTime() < deadline)) {
+                // The sample's deal and playouts only depend on its index
+                SplittableRandom random = new SplittableRandom(RuleContext.deriveSeed(decisionSeed, sample));
+                System.arraycopy(samplingPool, 0, pool, 0, pool.length);
+                long opponentHand = TrickRollout.sampleHand(pool, opponentHandSize, random);
+                for (int i = 0; i < candidates.length; i++) {
+                    totals[i] += playout(candidates[i], opponentHand, random);
+                }
+            }
+            return totals;
+        }
+
+        /**
+         * Our trick points from playing the candidate until the hands are empty
+         */
+        private int playout(int candidate, long opponentHand, SplittableRandom random) {
+            long myHand = CardSet.remove(playerHand, candidate);
+            if (leadCard == CardData.NO_CARD) {
+                return rollout.playout(myHand, opponentHand, candidate, false, random);
+            }
+            boolean iWin = TrickWinnerCalculator.checkWinner(leadCard, candidate, rollout.getTrumpSuit(), 0) == 0;
+            int points = iWin ? rollout.getCardScore(leadCard) + rollout.getCardScore(candidate) : 0;
+            return points + rollout.playout(myHand, opponentHand, CardData.NO_CARD, iWin, random);
+        }
+    }
+}
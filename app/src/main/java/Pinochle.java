@@ -5,8 +5,9 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @SuppressWarnings("serial")
-public class Pinochle extends CardGame {
+public class Pinochle extends CardGame implements GameContext {
     final GameConfig config;
+    final RuleContext rules;
     private GameState currentState;
 
     // Managers & Helper classes
@@ -16,6 +17,8 @@ public class Pinochle extends CardGame {
     private final TrickManager trickManager;
 
     final GameLogger gameLogger = new GameLogger();
+    final GameClock clock;
+    final LatencyMetrics latencyMetrics = new LatencyMetrics();
 
     // Constants
     private final String version = "1.0";
@@ -35,9 +38,25 @@ public class Pinochle extends CardGame {
     private int[] scores = new int[nbPlayers];
     private int[] autoIndexHands = new int[nbPlayers];
 
+    // Human decisions handed over from the UI callbacks
+    private final InputMailbox<Card> humanCardInput = new InputMailbox<>();
+    private final InputMailbox<String> trumpSuitInput = new InputMailbox<>();
+
     public Pinochle(Properties properties) {
+        this(properties, null);
+    }
+
+    /**
+     * A null clock picks the clock the configuration asks for
+     */
+    public Pinochle(Properties properties, GameClock clock) {
         super(700, 700, 30);
         this.config = new GameConfig(properties);
+        if (clock == null) {
+            clock = config.useVirtualClock() ? new VirtualGameClock() : new RealTimeGameClock();
+        }
+        this.clock = clock;
+        this.rules = RuleContext.forInteractiveGame(config);
         this.uiManager = new PinochleUIManager(this);
         this.cutthroatManager = new CutthroatManager(this);
 
@@ -45,23 +64,41 @@ public class Pinochle extends CardGame {
         TrickTakingStrategy[] playerStrategies = new TrickTakingStrategy[nbPlayers];
         playerStrategies[GameConfig.COMPUTER_PLAYER_INDEX] = TrickTakingStrategyFactory.createStrategy(
                 config.isSmartTrickMode() ? TrickTakingStrategyFactory.SMART_TRICK_TAKING : TrickTakingStrategyFactory.RANDOM_TRICK_TAKING,
-                GameConfig.random
+                rules,
+                GameConfig.COMPUTER_PLAYER_INDEX
         );
-        this.trickManager = new TrickManager(this, playerStrategies);
+        this.trickManager = new TrickManager(this, clock, latencyMetrics, rules, playerStrategies);
 
         // Initialize bidding strategy
         BiddingStrategy computerBiddingStrategy = BiddingStrategyFactory.createStrategy(
-                config.isPlayer0SmartBidding() ? BiddingStrategyFactory.SMART_BIDDING : BiddingStrategyFactory.RANDOM_BIDDING,
+                config.getPlayer0BiddingStrategy(),
                 BiddingManager.BID_SELECTION_VALUE,
-                BiddingManager.MAX_SINGLE_BID
+                BiddingManager.MAX_SINGLE_BID,
+                rules,
+                GameConfig.COMPUTER_PLAYER_INDEX
         );
         this.biddingManager = new BiddingManager(this, computerBiddingStrategy);
 
-        MeldScores.useAdditionalMelds = config.useAdditionalMelds();
         currentState = null;
     }
 
+    public void performBidding() {
+        biddingManager.performBidding(hands);
+    }
+
     public void performTrumpSelection() {
+        TrumpSelectionFlightEvent event = new TrumpSelectionFlightEvent();
+        event.begin();
+        selectTrumpSuit();
+        event.end();
+        if (event.shouldCommit()) {
+            event.player = biddingManager.getBidWinPlayerIndex();
+            event.trumpSuit = trumpSuit;
+            event.commit();
+        }
+    }
+
+    private void selectTrumpSuit() {
         if (config.isAuto()) {
             trumpSuit = config.getTrumpSuit();
             uiManager.updateTrumpActor(trumpSuit);
@@ -71,15 +108,22 @@ public class Pinochle extends CardGame {
 
         int bidWinPlayerIndex = biddingManager.getBidWinPlayerIndex();
         if (bidWinPlayerIndex == GameConfig.COMPUTER_PLAYER_INDEX) {
-            if (config.isPlayer0SmartBidding() && biddingManager.getComputerBiddingStrategy() instanceof SmartBiddingStrategy smartStrategy) {
-                trumpSuit = smartStrategy.determineLikelyTrumpSuit(hands[GameConfig.COMPUTER_PLAYER_INDEX]);
+            long hand = TrickHelper.toCardSet(hands[GameConfig.COMPUTER_PLAYER_INDEX].getCardList());
+            BiddingStrategy computerBiddingStrategy = biddingManager.getComputerBiddingStrategy();
+            TrumpSuitSelector selector = TrumpSuitSelector.getInstance(rules.useAdditionalMelds());
+            if (computerBiddingStrategy instanceof MonteCarloBiddingStrategy monteCarloStrategy) {
+                // The suit its bids were made on
+                trumpSuit = monteCarloStrategy.determineLikelyTrumpSuit(hand);
+            } else if (computerBiddingStrategy instanceof SmartBiddingStrategy smartStrategy) {
+                // The profile its bids were made on
+                trumpSuit = selector.selectTrumpSuit(smartStrategy.getHandProfile(hand));
             } else {
-                Suit selectedTrumpSuit = Arrays.stream(Suit.values()).findAny().get();
-                trumpSuit = selectedTrumpSuit.getSuitShortHand();
+                trumpSuit = selector.selectTrumpSuit(new HandProfile(hand, rules.useAdditionalMelds()));
             }
         } else {
-            uiManager.initTrumpSelectionUI(selectedTrumpSuit -> trumpSuit = selectedTrumpSuit);
-            while (trumpSuit == null) delay(config.getDelayTime());
+            trumpSuitInput.open();
+            uiManager.initTrumpSelectionUI(trumpSuitInput::post);
+            trumpSuit = trumpSuitInput.take();
             uiManager.removeTrumpSelectionUI();
         }
         uiManager.updateTrumpActor(trumpSuit);
@@ -90,9 +134,9 @@ public class Pinochle extends CardGame {
         trickManager.resetForNewGame();
 
         for (int i = 0; i < nbPlayers; i++) {
-            scores[i] = MeldScores.calculateMeldingScore(hands[i].getCardList(), trumpSuit);
+            scores[i] = MeldScores.calculateMeldingScore(hands[i].getCardList(), trumpSuit, rules.useAdditionalMelds());
             uiManager.updateScore(i, scores);;
-            delay(config.getDelayTime());
+            clock.pause(config.getDelayTime());
         }
         gameLogger.addTrumpInfoToLog(trumpSuit, scores);
         gameLogger.addPlayerCardsToLog(hands, nbPlayers);
@@ -106,17 +150,19 @@ public class Pinochle extends CardGame {
             gameLogger.addRoundInfoToLog(i);
 
             for (int j = 0; j < nbPlayers; j++) {
-                selected = playTurnForPlayer(nextPlayer);
+                Card selected = playTurnForPlayer(nextPlayer);
 
                 if (selected != null) {
                     selected.removeFromHand(true);
+                    trickManager.recordPlayedCard(selected);
                     gameLogger.addCardPlayedToLog(nextPlayer, selected);
                     trickManager.getPlayingArea().insert(selected, true);
                     trickManager.updatePlayingAreaDisplay();
 
                     if (trickManager.getPlayingArea().getCardList().size() == 2) {
-                        delay(config.getDelayTime());
+                        clock.pause(config.getDelayTime());
                         int trickWinnerIndex = trickManager.determineTrickWinner(nextPlayer);
+                        gameLogger.addTrickWonToLog(trickWinnerIndex);
                         trickManager.transferCardsToWinner(trickWinnerIndex, config.getDelayTime());
                         nextPlayer = trickWinnerIndex;
                     } else {
@@ -152,9 +198,8 @@ public class Pinochle extends CardGame {
         Arrays.fill(scores, 0);
     }
 
-    private Card selected;
-
     private void initGame() {
+        gameLogger.addGameStartToLog();
         hands = new Hand[nbPlayers];
         Hand[] trickWinningHands = new Hand[nbPlayers];
         for (int i = 0; i < nbPlayers; i++) {
@@ -185,8 +230,9 @@ public class Pinochle extends CardGame {
                     setStatus("Card is not valid. Player needs to choose higher card of the same suit or trump suit");
                     return;
                 }
-                selected = card;
-                hands[GameConfig.HUMAN_PLAYER_INDEX].setTouchEnabled(false);
+                if (humanCardInput.post(card)) {
+                    hands[GameConfig.HUMAN_PLAYER_INDEX].setTouchEnabled(false);
+                }
             }
         };
         hands[GameConfig.HUMAN_PLAYER_INDEX].addCardListener(cardListener);
@@ -196,8 +242,8 @@ public class Pinochle extends CardGame {
 
 
     // return random Card from ArrayList
-    public static Card randomCard(ArrayList<Card> list) {
-        int x = GameConfig.random.nextInt(list.size());
+    public static Card randomCard(ArrayList<Card> list, Random random) {
+        int x = random.nextInt(list.size());
         return list.get(x);
     }
 
@@ -222,7 +268,7 @@ public class Pinochle extends CardGame {
             int cardsToDealt = nbCardsPerPlayer - hands[i].getNumberOfCards();
             for (int j = 0; j < cardsToDealt; j++) {
                 if (pack.isEmpty()) return;
-                Card dealt = randomCard(pack.getCardList());
+                Card dealt = randomCard(pack.getCardList(), rules.getRandom());
                 dealt.removeFromHand(false);
                 hands[i].insert(dealt, false);
             }
@@ -242,9 +288,12 @@ public class Pinochle extends CardGame {
 
         // Execute all the game states
         while (!(currentState instanceof GameOverState)) {
-            currentState.handle();
+            latencyMetrics.handleState(currentState, clock);
+        }
+        latencyMetrics.handleState(currentState, clock); // GameOverState
+        if (config.printLatency()) {
+            System.out.print(latencyMetrics);
         }
-        currentState.handle(); // GameOverState
     }
 
     private Card playTurnForPlayer(int playerIndex) {
@@ -256,21 +305,18 @@ public class Pinochle extends CardGame {
     }
 
     private Card handleHumanTurn(int playerIndex) {
+        humanCardInput.open();
         hands[playerIndex].setTouchEnabled(true);
         setStatus("Player " + playerIndex + " is playing. Please double click on a card to discard");
 
-        selected = null;
-        while (selected == null) {
-            delay(config.getDelayTime());
-        }
+        Card card = humanCardInput.take();
 
         // Record human played card for strategies that track cards
-        trickManager.recordPlayedCard(selected);
         if (trickManager.getPlayerStrategies()[GameConfig.COMPUTER_PLAYER_INDEX] != null) {
-            trickManager.getPlayerStrategies()[GameConfig.COMPUTER_PLAYER_INDEX].recordPlayedCard(selected);
+            trickManager.getPlayerStrategies()[GameConfig.COMPUTER_PLAYER_INDEX].recordPlayedCard(TrickHelper.toCardId(card));
         }
 
-        return selected;
+        return card;
     }
 
     private Card handleComputerTurn(int playerIndex) {
@@ -290,15 +336,7 @@ public class Pinochle extends CardGame {
             List<Card> cards = trickManager.getTrickWinningHands()[i].getCardList();
             int score = 0;
             for (Card card : cards) {
-                Rank rank = (Rank) card.getRank();
-                Suit suit = (Suit) card.getSuit();
-                boolean isNineCard = rank.getRankCardValue() == Rank.NINE.getRankCardValue();
-                boolean isTrumpCard = suit.getSuitShortHand().equals(trumpSuit);
-                if (isNineCard && isTrumpCard) {
-                    score += Rank.NINE_TRUMP;
-                } else {
-                    score += rank.getScoreValue();
-                }
+                score += TrickHelper.getCardScore(TrickHelper.toCardId(card), trumpSuit);
             }
 
             scores[i] += score;
@@ -332,6 +370,13 @@ public class Pinochle extends CardGame {
     }
 
     // Getters
+    public GameConfig getConfig() {
+        return config;
+    }
+
+    public LatencyMetrics getLatencyMetrics() {
+        return latencyMetrics;
+    }
     public Hand[] getHands() {
         return hands;
     }
@@ -350,6 +395,7 @@ public class Pinochle extends CardGame {
         setStatusText(string);
     }
     public void setState(GameState state) {
+        StateTransitionFlightEvent.commit(currentState, state);
         this.currentState = state;
         setStatus("Current phase: " + state.getStateName());
     }
@@ -1,23 +1,22 @@
-import ch.aplu.jcardgame.*;
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 public class RandomTrickTakingStrategy implements TrickTakingStrategy {
-    private final Random random;
+    private final RandomGenerator random;
 
-    public RandomTrickTakingStrategy(Random random) {
+    public RandomTrickTakingStrategy(RandomGenerator random) {
         this.random = random;
     }
 
     @Override
-    public Card selectCard(Hand playerHand, List<Card> playingAreaCards, String trumpSuit,
-                           Set<Card> playedCards, int playerIndex, int bidWinnerIndex, int currentBid) {
-        List<Card> validCards = TrickHelper.getValidCards(
-                playerHand.getCardList(), playingAreaCards, trumpSuit);
-        return validCards.get(random.nextInt(validCards.size()));
+    public int selectCard(long playerHand, List<Integer> playingAreaCards, String trumpSuit,
+                          long playedCards, int playerIndex, int bidWinnerIndex, int currentBid) {
+        long validCards = TrickHelper.getValidCards(playerHand, TrickHelper.getLeadCard(playingAreaCards), trumpSuit);
+        return CardSet.get(validCards, random.nextInt(CardSet.size(validCards)));
     }
 
     @Override
-    public void recordPlayedCard(Card card) {
+    public void recordPlayedCard(int card) {
         // Random strategy doesn't track cards
     }
 
@@ -0,0 +1,25 @@
+import ch.aplu.jgamegrid.GameGrid;
+
+/**
+ * Pauses the calling thread, for interactive play
+ */
+public class RealTimeGameClock implements GameClock {
+    private final long startTime = System.nanoTime();
+    private volatile long pausedMillis = 0;
+
+    @Override
+    public void pause(long milliseconds) {
+        GameGrid.delay(milliseconds);
+        pausedMillis += milliseconds;
+    }
+
+    @Override
+    public long elapsedMillis() {
+        return (System.nanoTime() - startTime) / 1_000_000L;
+    }
+
+    @Override
+    public long pausedMillis() {
+        return pausedMillis;
+    }
+}
@@ -0,0 +1,92 @@
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Audits logged games against the current rules with GameReplayer. A file is either a text log
+ * (one or more games in the GameLogger format) or a binary event log, told apart by the event
+ * log header. Files are mapped instead of read and replayed in parallel.
+ */
+public class ReplayRunner {
+    private final boolean useAdditionalMelds;
+    private final int parallelism;
+
+    public ReplayRunner(boolean useAdditionalMelds, int parallelism) {
+        this.useAdditionalMelds = useAdditionalMelds;
+        this.parallelism = parallelism;
+    }
+
+    public ReplaySummary replay(List<Path> files) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long startTime = System.nanoTime();
+            ReplaySummary summary = pool.submit(() -> files.parallelStream()
+                    .collect(ReplaySummary::new, this::replayFile, ReplaySummary::merge)
+            ).join();
+            summary.setElapsedNanos(System.nanoTime() - startTime);
+            return summary;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void replayFile(ReplaySummary summary, Path file) {
+        GameReplayer replayer = new GameReplayer(useAdditionalMelds, summary);
+        replayer.setSource(file.toString());
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer log = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (BinaryEventDecoder.isEventLog(log)) {
+                BinaryEventDecoder.decode(log, replayer);
+            } else {
+                TextLogParser.parse(log, replayer);
+            }
+        } catch (IOException | IllegalArgumentException | BufferUnderflowException | IndexOutOfBoundsException e) {
+            replayer.abort("unreadable log, " + e.getMessage());
+        }
+    }
+
+    /**
+     * The regular files of the paths, directories are searched recursively
+     */
+    public static List<Path> findFiles(List<Path> paths) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path path : paths) {
+            try (Stream<Path> found = Files.walk(path)) {
+                files.addAll(found.filter(Files::isRegularFile).sorted().collect(Collectors.toList()));
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Usage: ReplayRunner [--additional-melds] file or directory...
+     * Meld scores are checked with the original melds unless --additional-melds is given.
+     */
+    public static void main(String[] args) throws IOException {
+        boolean useAdditionalMelds = false;
+        List<Path> paths = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.equals("--additional-melds")) {
+                useAdditionalMelds = true;
+            } else {
+                paths.add(Path.of(arg));
+            }
+        }
+
+        ReplayRunner runner = new ReplayRunner(useAdditionalMelds, Runtime.getRuntime().availableProcessors());
+        ReplaySummary summary = runner.replay(findFiles(paths));
+        System.out.print(summary);
+        if (summary.getNbInvalidGames() > 0) {
+            System.exit(1);
+        }
+    }
+}
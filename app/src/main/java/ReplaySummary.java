@@ -0,0 +1,68 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Aggregated results of replaying logged games: how many games were replayed, how many broke
+ * the rules, and the first violations found
+ */
+public class ReplaySummary {
+    public static final int MAX_VIOLATIONS_KEPT = 20;
+
+    private int nbGames = 0;
+    private int nbInvalidGames = 0;
+    private final List<String> violations = new ArrayList<>();
+    private long elapsedNanos = 0;
+
+    public void addValidGame() {
+        nbGames++;
+    }
+
+    public void addInvalidGame(String violation) {
+        nbGames++;
+        nbInvalidGames++;
+        if (violations.size() < MAX_VIOLATIONS_KEPT) {
+            violations.add(violation);
+        }
+    }
+
+    public void merge(ReplaySummary other) {
+        nbGames += other.nbGames;
+        nbInvalidGames += other.nbInvalidGames;
+        for (String violation : other.violations) {
+            if (violations.size() < MAX_VIOLATIONS_KEPT) {
+                violations.add(violation);
+            }
+        }
+    }
+
+    public int getNbGames() {
+        return nbGames;
+    }
+
+    public int getNbInvalidGames() {
+        return nbInvalidGames;
+    }
+
+    public List<String> getViolations() {
+        return new ArrayList<>(violations);
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : nbGames / (elapsedNanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Games: %d (%.0f games/s)%n", nbGames, getGamesPerSecond()));
+        sb.append(String.format("Invalid games: %d%n", nbInvalidGames));
+        for (String violation : violations) {
+            sb.append("  ").append(violation).append(String.format("%n"));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,129 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Appends binary game records to a series of event log files through a buffered file channel.
+ * A file starts with a header (magic number and version) followed by the games, each as its
+ * length and its BinaryEventEncoder record. A new file is started when the current one would
+ * grow past the size limit, so no game is split across files. Safe to share between games
+ * running in parallel.
+ */
+public class RollingEventLogWriter implements Closeable {
+    public static final int MAGIC = 0x504E4C47;
+    public static final int VERSION = 1;
+    public static final int HEADER_BYTES = 8;
+    public static final String FILE_SUFFIX = ".events";
+    public static final long DEFAULT_MAX_FILE_BYTES = 64L << 20;
+
+    private static final int BUFFER_BYTES = 1 << 16;
+
+    private final Path directory;
+    private final String prefix;
+    private final long maxFileBytes;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private final List<Path> files = new ArrayList<>();
+    private FileChannel channel;
+    private long fileBytes;
+    private int nextFileIndex = 0;
+
+    public RollingEventLogWriter(Path directory, String prefix) throws IOException {
+        this(directory, prefix, DEFAULT_MAX_FILE_BYTES);
+    }
+
+    public RollingEventLogWriter(Path directory, String prefix, long maxFileBytes) throws IOException {
+        this.directory = directory;
+        this.prefix = prefix;
+        this.maxFileBytes = maxFileBytes;
+        Files.createDirectories(directory);
+        openNextFile();
+    }
+
+    /**
+     * Path of the index-th file of a series, e.g. games-000002.events
+     */
+    public static Path getFile(Path directory, String prefix, int index) {
+        return directory.resolve(String.format("%s-%06d%s", prefix, index, FILE_SUFFIX));
+    }
+
+    /**
+     * Appends the remaining bytes of a game record
+     */
+    public synchronized void writeGame(ByteBuffer record) {
+        int recordBytes = Integer.BYTES + record.remaining();
+        try {
+            if (fileBytes > HEADER_BYTES && fileBytes + recordBytes > maxFileBytes) {
+                closeFile();
+                openNextFile();
+            }
+            if (buffer.remaining() < recordBytes) {
+                flushBuffer();
+            }
+            if (buffer.remaining() < recordBytes) {
+                // Larger than the whole buffer, write it straight to the channel
+                writeFully(ByteBuffer.allocate(Integer.BYTES).putInt(record.remaining()).flip());
+                writeFully(record);
+            } else {
+                buffer.putInt(record.remaining()).put(record);
+            }
+            fileBytes += recordBytes;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public synchronized void flush() throws IOException {
+        flushBuffer();
+    }
+
+    /**
+     * The files written so far, in order
+     */
+    public synchronized List<Path> getFiles() {
+        return new ArrayList<>(files);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closeFile();
+    }
+
+    private void openNextFile() throws IOException {
+        // Continue an existing series instead of overwriting it
+        Path file = getFile(directory, prefix, nextFileIndex++);
+        while (Files.exists(file)) {
+            file = getFile(directory, prefix, nextFileIndex++);
+        }
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        files.add(file);
+        buffer.putInt(MAGIC).putInt(VERSION);
+        fileBytes = HEADER_BYTES;
+    }
+
+    private void closeFile() throws IOException {
+        if (channel != null) {
+            flushBuffer();
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        buffer.flip();
+        writeFully(buffer);
+        buffer.clear();
+    }
+
+    private void writeFully(ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+}
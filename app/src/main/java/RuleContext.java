@@ -0,0 +1,138 @@
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Random numbers and rule set of a single game. Every game owns its own context, so games running
+ * concurrently in the same JVM stay isolated and deterministic.
+ *
+ * Random numbers form a hierarchy of seeds: a master seed derives the seed of every game by its
+ * index (forGame), and a game seed derives one SplittableRandom stream per purpose and seat
+ * (getRandom). Derivation is by index rather than by order of use, so a game or a seat draws the
+ * same numbers however the games are scheduled across threads and whatever the other seats do.
+ * The deal keeps its java.util.Random seeded with the game seed, so seeded deals stay the same.
+ *
+ * The context also says how the strategies search: on which pool, and whether their searches stop
+ * at a time budget. Only the interactive game has time budgets, everywhere else the searches take
+ * all their samples so the same seed plays the same game on any machine under any load.
+ */
+public class RuleContext {
+    // Streams of a game, each seat has its own stream of every kind
+    public static final int BID_ORDER_STREAM = 0;
+    public static final int BIDDING_STREAM = 1;
+    public static final int TRICK_TAKING_STREAM = 2;
+    public static final int RANDOM_PLAY_STREAM = 3;
+    public static final int CUTTHROAT_STREAM = 4;
+    // Streams per seat, with room for new streams that doesn't move the seeds of the others
+    private static final int NB_STREAMS = 8;
+
+    // A search without time budget runs until it has all its samples
+    public static final long NO_TIME_BUDGET = Long.MAX_VALUE;
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+    private final Random random;
+    private final boolean useAdditionalMelds;
+    private final boolean hasTimeBudgets;
+    private final ForkJoinPool searchPool;
+
+    /**
+     * A context whose searches have no time budget and run on the common pool
+     */
+    public RuleContext(long seed, boolean useAdditionalMelds) {
+        this(seed, useAdditionalMelds, false, ForkJoinPool.commonPool());
+    }
+
+    public RuleContext(long seed, boolean useAdditionalMelds, boolean hasTimeBudgets, ForkJoinPool searchPool) {
+        this.seed = seed;
+        this.random = new Random(seed);
+        this.useAdditionalMelds = useAdditionalMelds;
+        this.hasTimeBudgets = hasTimeBudgets;
+        this.searchPool = searchPool;
+    }
+
+    public RuleContext(GameConfig config) {
+        this(GameConfig.seed, config.useAdditionalMelds());
+    }
+
+    /**
+     * The context of a game played against a human, whose searches stop at their time budget to
+     * keep the computer's moves responsive
+     */
+    public static RuleContext forInteractiveGame(GameConfig config) {
+        return new RuleContext(GameConfig.seed, config.useAdditionalMelds(), true, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * The context of the game at the index in a series of games played from one master seed
+     */
+    public static RuleContext forGame(long masterSeed, long gameIndex, boolean useAdditionalMelds) {
+        return new RuleContext(deriveSeed(masterSeed, gameIndex), useAdditionalMelds);
+    }
+
+    /**
+     * The same, with the searches running on the given pool
+     */
+    public static RuleContext forGame(long masterSeed, long gameIndex, boolean useAdditionalMelds,
+                                      ForkJoinPool searchPool) {
+        return new RuleContext(deriveSeed(masterSeed, gameIndex), useAdditionalMelds, false, searchPool);
+    }
+
+    /**
+     * Seed of the child at the index: the index-th value a SplittableRandom seeded with the
+     * parent seed would return, computed directly (SplitMix64)
+     */
+    static long deriveSeed(long parentSeed, long index) {
+        long z = parentSeed + (index + 1) * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * The random numbers of the deal
+     */
+    public Random getRandom() {
+        return random;
+    }
+
+    /**
+     * A new generator for one stream of the game (e.g. BIDDING_STREAM) and seat, the same
+     * numbers every time it is asked for. Not shared: the caller keeps it for its own use.
+     */
+    public SplittableRandom getRandom(int stream, int seat) {
+        return new SplittableRandom(deriveSeed(seed, (long) seat * NB_STREAMS + stream));
+    }
+
+    public boolean useAdditionalMelds() {
+        return useAdditionalMelds;
+    }
+
+    /**
+     * The time budget of a search in this game: the given budget, or NO_TIME_BUDGET when the
+     * game has none
+     */
+    public long getTimeBudget(long timeBudgetMillis) {
+        return hasTimeBudgets ? timeBudgetMillis : NO_TIME_BUDGET;
+    }
+
+    public ForkJoinPool getSearchPool() {
+        return searchPool;
+    }
+
+    /**
+     * The System.nanoTime deadline of a search started now with the time budget, never reached
+     * with NO_TIME_BUDGET
+     */
+    static long getDeadline(long timeBudgetMillis) {
+        if (timeBudgetMillis == NO_TIME_BUDGET) {
+            return Long.MAX_VALUE;
+        }
+        return System.nanoTime() + timeBudgetMillis * 1_000_000L;
+    }
+}
@@ -1,57 +1,47 @@
-import ch.aplu.jcardgame.*;
 import java.util.*;
-import java.util.stream.Collectors;
 
+/**
+ * Heuristic trick play. Card tracking (played out ranks, cards of a suit left) comes from the
+ * played cards the game passes in, so it holds no state of its own.
+ */
 public class SmartTrickTakingStrategy implements TrickTakingStrategy {
-    private final Set<Card> playedCards = new HashSet<>();
-    private final Map<String, Integer> suitCardsRemaining = new HashMap<>();
-
-    public SmartTrickTakingStrategy() {
-        initializeCardTracking();
-    }
-
-    private void initializeCardTracking() {
-        for (Suit suit : Suit.values()) {
-            suitCardsRemaining.put(suit.getSuitShortHand(), 12); // 12 cards per suit
-        }
-    }
+    private static final int CARDS_PER_SUIT = 2 * Rank.values().length;
 
     @Override
-    public Card selectCard(Hand playerHand, List<Card> playingAreaCards, String trumpSuit,
-                           Set<Card> playedCards, int playerIndex, int bidWinnerIndex, int currentBid) {
-        List<Card> validCards = TrickHelper.getValidCards(
-                playerHand.getCardList(), playingAreaCards, trumpSuit);
+    public int selectCard(long playerHand, List<Integer> playingAreaCards, String trumpSuit,
+                          long playedCards, int playerIndex, int bidWinnerIndex, int currentBid) {
+        long validCards = TrickHelper.getValidCards(playerHand, TrickHelper.getLeadCard(playingAreaCards), trumpSuit);
 
         return playingAreaCards.isEmpty()
-                ? selectLeadingCard(validCards, trumpSuit, playerIndex, bidWinnerIndex)
+                ? selectLeadingCard(validCards, trumpSuit, playedCards, playerIndex, bidWinnerIndex)
                 : selectFollowingCard(validCards, trumpSuit);
     }
 
-    private Card selectLeadingCard(List<Card> validCards, String trumpSuit,
-                                   int playerIndex, int bidWinnerIndex) {
+    private int selectLeadingCard(long validCards, String trumpSuit, long playedCards,
+                                  int playerIndex, int bidWinnerIndex) {
         // Bid winner, lead with high values
         if (playerIndex == bidWinnerIndex) {
-            Card highValueCard = getCardByValue(validCards, trumpSuit, true);
-            if (highValueCard != null && getCardTotalValue(highValueCard, trumpSuit) >= 10) {
+            int highValueCard = getCardByValue(validCards, trumpSuit, true);
+            if (highValueCard != CardData.NO_CARD && getCardTotalValue(highValueCard, trumpSuit) >= 10) {
                 return highValueCard;
             }
         }
 
         // play Guaranteed winners (except for trumps)
-        Card guaranteedWinner = findGuaranteedWinner(validCards);
-        if (guaranteedWinner != null) {
+        int guaranteedWinner = findGuaranteedWinner(validCards, playedCards);
+        if (guaranteedWinner != CardData.NO_CARD) {
             return guaranteedWinner;
         }
 
         // Lead with trumps if we have a lot
-        Card trumpLead = selectStrategicTrumpLead(validCards, trumpSuit);
-        if (trumpLead != null){
+        int trumpLead = selectStrategicTrumpLead(validCards, trumpSuit, playedCards);
+        if (trumpLead != CardData.NO_CARD) {
             return trumpLead;
         }
 
         // If the opponent has a void suit, play that suit
-        Card voidExploit = findVoidSuitExploit(validCards, trumpSuit);
-        if (voidExploit != null) {
+        int voidExploit = findVoidSuitExploit(validCards, trumpSuit, playedCards);
+        if (voidExploit != CardData.NO_CARD) {
             return voidExploit;
         }
 
@@ -59,123 +49,125 @@ public class SmartTrickTakingStrategy implements TrickTakingStrategy {
         return getCardByRank(validCards, false);
     }
 
-    private Card selectStrategicTrumpLead(List<Card> validCards, String trumpSuit) {
-        List<Card> trumpCards = getCardsBySuit(validCards, trumpSuit);
-        if (trumpCards.size() < 2) return null;
+    private int selectStrategicTrumpLead(long validCards, String trumpSuit, long playedCards) {
+        long trumpCards = getCardsBySuit(validCards, trumpSuit);
+        int nbTrumpCards = CardSet.size(trumpCards);
+        if (nbTrumpCards < 2) return CardData.NO_CARD;
 
-        int opponentTrump = suitCardsRemaining.get(trumpSuit) - trumpCards.size();
+        int opponentTrump = getSuitCardsRemaining(playedCards, CardData.getSuitIndex(trumpSuit)) - nbTrumpCards;
 
         if (opponentTrump <= 2) {
             return getCardByRank(trumpCards, true); // Lead with highest trump
         }
 
-        if (trumpCards.size() >= 4 && opponentTrump >= 3) {
-            trumpCards.sort((a, b) -> Integer.compare(getRank(b), getRank(a)));
-            return trumpCards.get(1); // Lead with 2nd highest trump just in case
+        if (nbTrumpCards >= 4 && opponentTrump >= 3) {
+            // Lead with 2nd highest trump just in case
+            return getCardByRank(CardSet.remove(trumpCards, getCardByRank(trumpCards, true)), true);
         }
 
-        return null;
+        return CardData.NO_CARD;
     }
 
-    private Card findGuaranteedWinner(List<Card> validCards) {
-        return validCards.stream()
-                .filter(this::isGuaranteedWinner)
-                .findFirst()
-                .orElse(null);
+    private int findGuaranteedWinner(long validCards, long playedCards) {
+        for (long cards = validCards; cards != CardSet.EMPTY; cards &= cards - 1) {
+            int card = CardSet.first(cards);
+            if (isGuaranteedWinner(card, playedCards)) {
+                return card;
+            }
+        }
+        return CardData.NO_CARD;
     }
 
-    private boolean isGuaranteedWinner(Card card) {
-        String suit = ((Suit) card.getSuit()).getSuitShortHand();
-        int rank = getRank(card);
-
-        // Check if all higher rank cards in this suit have been played
-        for (int higherRank = rank + 1; higherRank <= Rank.ACE.getRankCardValue(); higherRank++) {
-            int finalHigherRank = higherRank;
-            long playedCount = playedCards.stream()
-                    .filter(c -> isSuit(c, suit) && getRank(c) == finalHigherRank)
-                    .count();
+    private boolean isGuaranteedWinner(int card, long playedCards) {
+        // All higher rank cards in this suit have been played
+        return (CardSet.higherMask(card) & ~playedCards) == CardSet.EMPTY;
+    }
 
-            if (playedCount < 2) return false;
-        }
-        return true;
+    /**
+     * Cards of the suit not played yet, including our own
+     */
+    private int getSuitCardsRemaining(long playedCards, int suitIndex) {
+        return CARDS_PER_SUIT - CardSet.size(playedCards & CardSet.suitMask(suitIndex));
     }
 
-    private Card findVoidSuitExploit(List<Card> validCards, String trumpSuit) {
-        for (String suit : Arrays.asList("S", "H", "D", "C")) {
-            if (suit.equals(trumpSuit)) continue;
+    private int findVoidSuitExploit(long validCards, String trumpSuit, long playedCards) {
+        int trumpIndex = CardData.getSuitIndex(trumpSuit);
+        for (int suit = 0; suit < CardData.NB_SUITS; suit++) {
+            if (suit == trumpIndex) continue;
 
-            List<Card> ourCards = getCardsBySuit(validCards, suit);
-            int opponentMax = suitCardsRemaining.get(suit) - ourCards.size();
+            long ourCards = validCards & CardSet.suitMask(suit);
+            int opponentMax = getSuitCardsRemaining(playedCards, suit) - CardSet.size(ourCards);
 
-            if (opponentMax <= 1 && !ourCards.isEmpty()) {
+            if (opponentMax <= 1 && ourCards != CardSet.EMPTY) {
                 return getCardByRank(ourCards, false); // Lead lowest from that suit
             }
         }
-        return null;
+        return CardData.NO_CARD;
     }
 
-    private Card selectFollowingCard(List<Card> validCards, String trumpSuit) {
-        List<Card> nonTrumpCards = validCards.stream()
-                .filter(card -> !isSuit(card, trumpSuit))
-                .collect(Collectors.toList());
+    private int selectFollowingCard(long validCards, String trumpSuit) {
+        long nonTrumpCards = validCards & ~CardSet.suitMask(trumpSuit);
 
-        return nonTrumpCards.isEmpty()
+        return nonTrumpCards == CardSet.EMPTY
                 ? getCardByRank(validCards, false)
                 : getCardByValue(nonTrumpCards, trumpSuit, false);
     }
 
-    private int getCardTotalValue(Card card, String trumpSuit) {
-        Rank rank = (Rank) card.getRank();
-        Suit suit = (Suit) card.getSuit();
-        return (rank == Rank.NINE && suit.getSuitShortHand().equals(trumpSuit))
-                ? Rank.NINE_TRUMP : rank.getScoreValue();
-    }
-
-    private Card getCardByValue(List<Card> cards, String trumpSuit, boolean highest) {
-        Comparator<Card> comparator = Comparator
-                .comparingInt(this::getRank)  // Primary: rank value
-                .thenComparing(card -> isSuit(card, trumpSuit) ? 1 : 0);  // Secondary: trump suit is stronger
-
-        if (!highest) {
-            comparator = comparator.reversed();
+    private int getCardTotalValue(int card, String trumpSuit) {
+        return TrickHelper.getCardScore(card, trumpSuit);
+    }
+
+    /**
+     * Highest or lowest card by rank, a trump is stronger than a non trump of the same rank.
+     * Ties go to the first card in hand order.
+     */
+    private int getCardByValue(long cards, String trumpSuit, boolean highest) {
+        long trumpCards = CardSet.suitMask(trumpSuit);
+        int bestCard = CardData.NO_CARD;
+        int bestValue = 0;
+        for (; cards != CardSet.EMPTY; cards &= cards - 1) {
+            int card = CardSet.first(cards);
+            int value = 2 * getRank(card) + (CardSet.contains(trumpCards, card) ? 1 : 0);
+            if (bestCard == CardData.NO_CARD || (highest ? value > bestValue : value < bestValue)) {
+                bestCard = card;
+                bestValue = value;
+            }
         }
-
-        return cards.stream()
-                .max(comparator)
-                .orElse(null);
-    }
-
-    private Card getCardByRank(List<Card> cards, boolean highest) {
-        Comparator<Card> comparator = Comparator.comparing(this::getRank);
-        return cards.stream()
-                .max(highest ? comparator : comparator.reversed())
-                .orElse(null);
-    }
-
-    private List<Card> getCardsBySuit(List<Card> cards, String suit) {
-        return cards.stream()
-                .filter(card -> isSuit(card, suit))
-                .collect(Collectors.toList());
+        return bestCard;
+    }
+
+    /**
+     * Highest or lowest card by rank, ties go to the first card in hand order
+     */
+    private int getCardByRank(long cards, boolean highest) {
+        int bestCard = CardData.NO_CARD;
+        int bestRank = 0;
+        for (; cards != CardSet.EMPTY; cards &= cards - 1) {
+            int card = CardSet.first(cards);
+            int rank = getRank(card);
+            if (bestCard == CardData.NO_CARD || (highest ? rank > bestRank : rank < bestRank)) {
+                bestCard = card;
+                bestRank = rank;
+            }
+        }
+        return bestCard;
     }
 
-    private boolean isSuit(Card card, String suit) {
-        return ((Suit) card.getSuit()).getSuitShortHand().equals(suit);
+    private long getCardsBySuit(long cards, String suit) {
+        return cards & CardSet.suitMask(suit);
     }
 
-    private int getRank(Card card) {
-        return ((Rank) card.getRank()).getRankCardValue();
+    private int getRank(int card) {
+        return CardData.getRankCardValue(card);
     }
 
     @Override
-    public void recordPlayedCard(Card card) {
-        playedCards.add(card);
-        String suitKey = ((Suit) card.getSuit()).getSuitShortHand();
-        suitCardsRemaining.put(suitKey, suitCardsRemaining.get(suitKey) - 1);
+    public void recordPlayedCard(int card) {
+        // Played cards come with every selectCard call
     }
 
     @Override
     public void reset() {
-        playedCards.clear();
-        initializeCardTracking();
+        // Nothing to reset
     }
 }
\ No newline at end of file
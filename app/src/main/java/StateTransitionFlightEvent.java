@@ -0,0 +1,31 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event for a change of game state. Like the other flight events it costs
+ * nothing unless a recording enables it, e.g. -XX:StartFlightRecording with pinochle.StateTransition.
+ */
+@Name("pinochle.StateTransition")
+@Label("Game State Transition")
+@Category({ "Pinochle", "Game" })
+@Description("The game moved to another state")
+@StackTrace(false)
+public class StateTransitionFlightEvent extends jdk.jfr.Event {
+    @Label("From State")
+    String fromState;
+
+    @Label("To State")
+    String toState;
+
+    static void commit(GameState fromState, GameState toState) {
+        StateTransitionFlightEvent event = new StateTransitionFlightEvent();
+        if (event.shouldCommit()) {
+            event.fromState = fromState == null ? null : fromState.getStateName();
+            event.toState = toState.getStateName();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Picks the face-up card the cutthroat bid winner takes by simulation: the rest of the stockpile
+ * is dealt from the cards the bid winner can't see, the bid winner's share alternating with the
+ * dealer's (bid winner first), and the 12 cards kept afterwards are chosen by CutthroatKeepSearch.
+ * Both face-up cards are tried on the same deals and the one with the higher average meld plus
+ * trick strength is taken. Samples run on a thread pool until the sample count or the time budget
+ * is reached, whichever comes first, and every sample draws its deal from the seed and its index.
+ */
+public class StockpilePickSimulator {
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 300;
+    public static final int DEFAULT_MAX_SAMPLES = 200;
+
+    private final String trumpSuit;
+    private final boolean useAdditionalMelds;
+    private final long timeBudgetMillis;
+    private final int maxSamples;
+    private final ForkJoinPool pool;
+
+    public StockpilePickSimulator(String trumpSuit, boolean useAdditionalMelds) {
+        this(trumpSuit, useAdditionalMelds, DEFAULT_TIME_BUDGET_MILLIS, DEFAULT_MAX_SAMPLES, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * The time budget can be RuleContext.NO_TIME_BUDGET to always take all the samples
+     */
+    public StockpilePickSimulator(String trumpSuit, boolean useAdditionalMelds, long timeBudgetMillis, int maxSamples,
+                                  ForkJoinPool pool) {
+        this.trumpSuit = trumpSuit;
+        this.useAdditionalMelds = useAdditionalMelds;
+        this.timeBudgetMillis = timeBudgetMillis;
+        this.maxSamples = maxSamples;
+        this.pool = pool;
+    }
+
+    /**
+     * Index of the face-up card to take, the first one on equal values
+     */
+    public int selectFaceUpCard(long hand, List<Integer> faceUpCards, int nbStockpileCards, int finalHandSize, long seed) {
+        if (faceUpCards.size() < 2) {
+            return 0;
+        }
+        double[] values = evaluate(hand, faceUpCards, nbStockpileCards, finalHandSize, seed);
+        int bestIndex = 0;
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] > values[bestIndex]) {
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+
+    /**
+     * Average meld plus trick strength of the final hand when taking each face-up card. The same
+     * seed gives the same values on any number of threads as long as the time budget doesn't cut
+     * the sampling short.
+     */
+    public double[] evaluate(long hand, List<Integer> faceUpCards, int nbStockpileCards, int finalHandSize, long seed) {
+        Simulations simulations = new Simulations(hand, faceUpCards, (nbStockpileCards + 1) / 2, finalHandSize, seed,
+                RuleContext.getDeadline(timeBudgetMillis));
+
+        int nbTasks = Math.max(1, pool.getParallelism());
+        List<ForkJoinTask<long[]>> tasks = new ArrayList<>();
+        for (int i = 1; i < nbTasks; i++) {
+            tasks.add(pool.submit(simulations::run));
+        }
+        // The calling thread always takes part, so there is an answer even when the pool is busy
+        long[] totals = simulations.run();
+        for (ForkJoinTask<long[]> task : tasks) {
+            long[] taskTotals = task.join();
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] += taskTotals[i];
+            }
+        }
+
+        // The last slot counts the samples
+        double[] values = new double[faceUpCards.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (double) totals[i] / totals[values.length];
+        }
+        return values;
+    }
+
+    /**
+     * One pick's simulations, run concurrently by several threads taking the next sample index in turn
+     */
+    private final class Simulations {
+        private final long hand;
+        private final int[] faceUpCards;
+        private final int[] unseenCards;
+        private final int nbDrawnCards;
+        private final int finalHandSize;
+        private final long seed;
+        private final long deadline;
+        private final AtomicInteger nextSample = new AtomicInteger();
+        // Searches run on the thread of their sample, all stopping at the deadline
+        private final CutthroatKeepSearch keepSearch;
+
+        private Simulations(long hand, List<Integer> faceUpCards, int nbDrawnCards, int finalHandSize, long seed,
+                            long deadline) {
+            this.hand = hand;
+            this.faceUpCards = faceUpCards.stream().mapToInt(Integer::intValue).toArray();
+            this.unseenCards = TrickRollout.toArray(CardSet.FULL & ~hand & ~CardSet.of(faceUpCards));
+            this.nbDrawnCards = Math.min(nbDrawnCards, unseenCards.length);
+            this.finalHandSize = finalHandSize;
+            this.seed = seed;
+            this.deadline = deadline;
+            this.keepSearch = new CutthroatKeepSearch(trumpSuit, useAdditionalMelds, timeBudgetMillis, null);
+        }
+
+        /**
+         * Total value of every face-up card over this thread's samples, and the number of samples
+         */
+        long[] run() {
+            long[] totals = new long[faceUpCards.length + 1];
+            int[] pool = new int[unseenCards.length];
+            int sample;
+            while ((sample = nextSample.getAndIncrement()) < maxSamples
+                    && (sample == 0 || System.nanoTime() < deadline)) {
+                SplittableRandom random = new SplittableRandom(RuleContext.deriveSeed(seed, sample));
+                System.arraycopy(unseenCards, 0, pool, 0, pool.length);
+                long drawnCards = TrickRollout.sampleHand(pool, nbDrawnCards, random);
+                for (int option = 0; option < faceUpCards.length; option++) {
+                    long cards = CardSet.add(hand | drawnCards, faceUpCards[option]);
+                    long keep = keepSearch.selectKeep(cards, finalHandSize, initialKeep(cards), deadline);
+                    totals[option] += keepSearch.evaluate(keep);
+                }
+                totals[faceUpCards.length]++;
+            }
+            return totals;
+        }
+
+        /**
+         * The cards with the highest ids, a keep of the right size for the search to start from
+         */
+        private long initialKeep(long cards) {
+            while (CardSet.size(cards) > finalHandSize) {
+                cards &= cards - 1;
+            }
+            return cards;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads game logs in the text format of TextLogRenderer and plays their events into a
+ * GameEventListener. Works straight on the ASCII bytes, so a log file can be mapped and
+ * parsed without decoding it to a String. Several games may follow each other.
+ */
+public class TextLogParser {
+    // Card kind by rank log value (1, 9 to 13) and suit index
+    private static final int[][] KINDS = new int[14][CardData.NB_SUITS];
+    private static final String[] TRUMP_SUITS = new String[CardData.NB_SUITS];
+
+    static {
+        for (int[] kinds : KINDS) {
+            Arrays.fill(kinds, CardData.NO_CARD);
+        }
+        for (int kind = 0; kind < CardSet.NB_KINDS; kind++) {
+            KINDS[Integer.parseInt(CardData.getRank(kind).getCardLog())][CardData.getSuitIndex(kind)] = kind;
+            TRUMP_SUITS[CardData.getSuitIndex(kind)] = CardData.getSuitShortHand(kind);
+        }
+    }
+
+    private final ByteBuffer log;
+    private final GameEventListener listener;
+
+    private TextLogParser(ByteBuffer log, GameEventListener listener) {
+        this.log = log;
+        this.listener = listener;
+    }
+
+    public static int parse(String log, GameEventListener listener) {
+        return parse(ByteBuffer.wrap(log.getBytes(StandardCharsets.US_ASCII)), listener);
+    }
+
+    /**
+     * Plays every game of the log into the listener, returns the number of games.
+     * Throws IllegalArgumentException at the first text that doesn't follow the format.
+     */
+    public static int parse(ByteBuffer log, GameEventListener listener) {
+        return new TextLogParser(log, listener).parseGames();
+    }
+
+    private int parseGames() {
+        int nbGames = 0;
+        skipWhitespace();
+        while (log.hasRemaining()) {
+            parseGame();
+            nbGames++;
+            skipWhitespace();
+        }
+        return nbGames;
+    }
+
+    private void parseGame() {
+        listener.onGameStart();
+
+        expect("Bid:");
+        int bidWinPlayerIndex = readInt();
+        expect("-");
+        listener.onBid(bidWinPlayerIndex, readInt());
+        expect("\nTrump: ");
+        listener.onTrump(readTrumpSuit());
+        expect("\nMelding Scores: ");
+        int[] meldScores = new int[2];
+        meldScores[0] = readInt();
+        expect("-");
+        meldScores[1] = readInt();
+        listener.onMeldScores(meldScores);
+        expect("\nInitial Cards:");
+        listener.onInitialCards(readHands('-'));
+
+        expect("\n");
+        while (peek() == 'R') {
+            expect("Round");
+            listener.onRound(readInt());
+            expect(":");
+            while (peek() == 'P') {
+                expect("P");
+                int player = readInt();
+                expect("-");
+                listener.onCardPlayed(player, readCard());
+                expect(",");
+            }
+            expect("\n");
+        }
+
+        expect("Trick Winning: ");
+        List<List<Integer>> trickWinningHands = readHands(':');
+        expect("\nFinal Score: ");
+        List<Integer> scores = new ArrayList<>(2);
+        while (isDigit(peek())) {
+            scores.add(readInt());
+            expect(",");
+        }
+        expect("\nWinners: ");
+        List<Integer> winners = new ArrayList<>(2);
+        winners.add(readInt());
+        while (peek() == ',') {
+            expect(", ");
+            winners.add(readInt());
+        }
+        listener.onGameEnd(trickWinningHands, scores.stream().mapToInt(Integer::intValue).toArray(), winners);
+    }
+
+    /**
+     * Hands like "P0-13S,9H-P1--", the separator follows the player index
+     */
+    private List<List<Integer>> readHands(char separator) {
+        List<List<Integer>> hands = new ArrayList<>(2);
+        while (peek() == 'P') {
+            expect("P");
+            readInt();
+            if (next() != separator) {
+                log.position(log.position() - 1);
+                throw malformed("\"" + separator + "\"");
+            }
+            List<Integer> hand = new ArrayList<>(CardData.NB_CARDS / 2);
+            if (peek() != '-') {
+                hand.add(readCard());
+                while (peek() == ',') {
+                    log.get();
+                    hand.add(readCard());
+                }
+            }
+            expect("-");
+            hands.add(hand);
+        }
+        return hands;
+    }
+
+    private int readCard() {
+        int rank = readInt();
+        int suitIndex = readSuitIndex();
+        if (rank >= KINDS.length || suitIndex < 0 || KINDS[rank][suitIndex] == CardData.NO_CARD) {
+            throw malformed("a card");
+        }
+        return KINDS[rank][suitIndex];
+    }
+
+    private String readTrumpSuit() {
+        int suitIndex = readSuitIndex();
+        if (suitIndex < 0) {
+            throw malformed("a trump suit");
+        }
+        return TRUMP_SUITS[suitIndex];
+    }
+
+    private int readSuitIndex() {
+        switch (next()) {
+            case 'S': return 0;
+            case 'H': return 1;
+            case 'D': return 2;
+            case 'C': return 3;
+            default: return -1;
+        }
+    }
+
+    private int readInt() {
+        if (!isDigit(peek())) {
+            throw malformed("a number");
+        }
+        int value = 0;
+        while (isDigit(peek())) {
+            value = value * 10 + (log.get() - '0');
+        }
+        return value;
+    }
+
+    private void expect(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (next() != text.charAt(i)) {
+                log.position(log.position() - 1);
+                throw malformed("\"" + text.substring(i).replace("\n", "\\n") + "\"");
+            }
+        }
+    }
+
+    private void skipWhitespace() {
+        while (log.hasRemaining() && Character.isWhitespace(peek())) {
+            log.get();
+        }
+    }
+
+    private int peek() {
+        return log.hasRemaining() ? log.get(log.position()) : -1;
+    }
+
+    private int next() {
+        if (!log.hasRemaining()) {
+            throw malformed("more text");
+        }
+        return log.get();
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private IllegalArgumentException malformed(String expected) {
+        return new IllegalArgumentException("Expected " + expected + " at offset " + log.position());
+    }
+}
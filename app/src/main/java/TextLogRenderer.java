@@ -0,0 +1,89 @@
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Renders the events in the text format of the game log, e.g. "Bid:1-140" and "Round0:P1-13S,"
+ */
+public class TextLogRenderer implements GameEventListener {
+    private final StringBuilder logResult = new StringBuilder();
+
+    @Override
+    public void onGameStart() {
+    }
+
+    @Override
+    public void onBid(int bidWinPlayerIndex, int bid) {
+        logResult.append("Bid:").append(bidWinPlayerIndex).append('-').append(bid).append('\n');
+    }
+
+    @Override
+    public void onTrump(String trumpSuit) {
+        logResult.append("Trump: ").append(trumpSuit).append('\n');
+    }
+
+    @Override
+    public void onMeldScores(int[] meldScores) {
+        logResult.append("Melding Scores: ").append(meldScores[0]).append('-').append(meldScores[1]).append('\n');
+    }
+
+    @Override
+    public void onInitialCards(List<List<Integer>> hands) {
+        logResult.append("Initial Cards:");
+        for (int i = 0; i < hands.size(); i++) {
+            logResult.append('P').append(i).append('-');
+            appendHand(hands.get(i));
+        }
+    }
+
+    @Override
+    public void onRound(int roundNumber) {
+        logResult.append('\n');
+        logResult.append("Round").append(roundNumber).append(':');
+    }
+
+    @Override
+    public void onCardPlayed(int player, int card) {
+        logResult.append('P').append(player).append('-');
+        logResult.append(CardData.getCardLog(card));
+        logResult.append(',');
+    }
+
+    @Override
+    public void onTrickWon(int player) {
+    }
+
+    @Override
+    public void onGameEnd(List<List<Integer>> trickWinningHands, int[] scores, List<Integer> winners) {
+        logResult.append('\n');
+        logResult.append("Trick Winning: ");
+        for (int i = 0; i < trickWinningHands.size(); i++) {
+            logResult.append('P').append(i).append(':');
+            appendHand(trickWinningHands.get(i));
+        }
+        logResult.append('\n');
+        logResult.append("Final Score: ");
+        for (int score : scores) {
+            logResult.append(score).append(',');
+        }
+        logResult.append('\n');
+        logResult.append("Winners: ").append(winners.stream().map(String::valueOf).collect(Collectors.joining(", ")));
+    }
+
+    private void appendHand(List<Integer> hand) {
+        for (int i = 0; i < hand.size(); i++) {
+            if (i > 0) {
+                logResult.append(',');
+            }
+            logResult.append(CardData.getCardLog(hand.get(i)));
+        }
+        logResult.append('-');
+    }
+
+    public String getText() {
+        return logResult.toString();
+    }
+
+    public void clear() {
+        logResult.setLength(0);
+    }
+}
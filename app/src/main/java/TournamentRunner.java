@@ -0,0 +1,123 @@
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Plays many independent headless games between two players on a work-stealing pool.
+ * Players swap seats every game so neither benefits from the seat it is dealt into.
+ * The strategies' searches run on the same pool without time budget.
+ */
+public class TournamentRunner {
+    public static final int DEFAULT_NB_GAMES = 10000;
+
+    private final GameConfig config;
+    private final String[] players;
+    private final int nbGames;
+    private final int parallelism;
+    private long masterSeed = GameConfig.seed;
+    private RollingEventLogWriter eventLog = null;
+    private final LatencyMetrics latencyMetrics = new LatencyMetrics();
+
+    public TournamentRunner(Properties properties, String firstPlayer, String secondPlayer,
+                            int nbGames, int parallelism) {
+        this.config = new GameConfig(properties);
+        this.players = new String[] { firstPlayer, secondPlayer };
+        this.nbGames = nbGames;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Seed every game's random numbers are derived from, the same seed replays the same games
+     * whatever the parallelism and the load of the machine
+     */
+    public void setMasterSeed(long masterSeed) {
+        this.masterSeed = masterSeed;
+    }
+
+    /**
+     * Also writes the events of every game to the event log
+     */
+    public void setEventLog(RollingEventLogWriter eventLog) {
+        this.eventLog = eventLog;
+    }
+
+    /**
+     * Latency of the game states and strategy calls over all the games played
+     */
+    public LatencyMetrics getLatencyMetrics() {
+        return latencyMetrics;
+    }
+
+    public TournamentSummary run() {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            long startTime = System.nanoTime();
+            TournamentSummary summary = pool.submit(() -> IntStream.range(0, nbGames)
+                    .parallel()
+                    .collect(() -> new TournamentSummary(players),
+                            (gameSummary, gameIndex) -> playGame(gameSummary, gameIndex, pool), TournamentSummary::merge)
+            ).join();
+            summary.setElapsedNanos(System.nanoTime() - startTime);
+            return summary;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void playGame(TournamentSummary summary, int gameIndex, ForkJoinPool pool) {
+        // Rotate seats: the first player sits at seat 0 in even games and seat 1 in odd games
+        int[] seatPlayers = gameIndex % 2 == 0 ? new int[] { 0, 1 } : new int[] { 1, 0 };
+
+        // Every game gets its own random numbers, derived from the game index so runs are reproducible
+        RuleContext rules = RuleContext.forGame(masterSeed, gameIndex, config.useAdditionalMelds(), pool);
+
+        BiddingStrategy[] biddingStrategies = new BiddingStrategy[seatPlayers.length];
+        TrickTakingStrategy[] trickTakingStrategies = new TrickTakingStrategy[seatPlayers.length];
+        for (int seat = 0; seat < seatPlayers.length; seat++) {
+            // A player is "bidding:trick taking" strategy names, or one name used for both
+            String[] strategyNames = players[seatPlayers[seat]].split(":");
+            biddingStrategies[seat] = BiddingStrategyFactory.createStrategy(
+                    strategyNames[0], BiddingManager.BID_SELECTION_VALUE, BiddingManager.MAX_SINGLE_BID, rules, seat);
+            trickTakingStrategies[seat] = TrickTakingStrategyFactory.createStrategy(
+                    strategyNames[strategyNames.length - 1], rules, seat);
+        }
+
+        HeadlessPinochle game = new HeadlessPinochle(config, rules, biddingStrategies, trickTakingStrategies);
+        // Only the summary is kept, no need for the text log
+        game.getGameLogger().disableTextLog();
+        if (eventLog != null) {
+            game.getGameLogger().addEventListener(new BinaryEventEncoder(eventLog));
+        }
+        game.setLatencyMetrics(latencyMetrics);
+        game.runApp();
+        summary.addGame(game, seatPlayers);
+    }
+
+    /**
+     * Usage: TournamentRunner [games] [first player] [second player] [properties file] [event log directory]
+     * Players are strategy names ("smart" or "random") used for both bidding and trick taking,
+     * or a bidding and a trick taking strategy name such as "smart:doubledummy".
+     */
+    public static void main(String[] args) throws IOException {
+        int nbGames = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_NB_GAMES;
+        String firstPlayer = args.length > 1 ? args[1] : BiddingStrategyFactory.SMART_BIDDING;
+        String secondPlayer = args.length > 2 ? args[2] : BiddingStrategyFactory.RANDOM_BIDDING;
+        Properties properties = args.length > 3 ? PropertiesLoader.loadPropertiesFile(args[3]) : new Properties();
+
+        TournamentRunner runner = new TournamentRunner(properties, firstPlayer, secondPlayer,
+                nbGames, Runtime.getRuntime().availableProcessors());
+        if (args.length > 4) {
+            try (RollingEventLogWriter eventLog = new RollingEventLogWriter(Path.of(args[4]), "games")) {
+                runner.setEventLog(eventLog);
+                System.out.println(runner.run());
+            }
+        } else {
+            System.out.println(runner.run());
+        }
+        System.out.print(runner.getLatencyMetrics());
+        boolean useAdditionalMelds = new GameConfig(properties).useAdditionalMelds();
+        System.out.println("Trump suit cache: " + TrumpSuitSelector.getUnboundedInstance(useAdditionalMelds).getCache());
+    }
+}
@@ -0,0 +1,121 @@
+/**
+ * Aggregated results of a tournament, one set of statistics per player
+ */
+public class TournamentSummary {
+    private final String[] players;
+    private final PlayerStats[] stats;
+    private long elapsedNanos = 0;
+
+    public static class PlayerStats {
+        private int games = 0;
+        private int wins = 0;
+        private int draws = 0;
+        private long totalScore = 0;
+        private long totalMeldScore = 0;
+        private int bidsWon = 0;
+        private int bidsMade = 0;
+
+        private void merge(PlayerStats other) {
+            games += other.games;
+            wins += other.wins;
+            draws += other.draws;
+            totalScore += other.totalScore;
+            totalMeldScore += other.totalMeldScore;
+            bidsWon += other.bidsWon;
+            bidsMade += other.bidsMade;
+        }
+
+        public int getGames() { return games; }
+        public int getWins() { return wins; }
+        public int getDraws() { return draws; }
+        public int getBidsWon() { return bidsWon; }
+        public int getBidsMade() { return bidsMade; }
+
+        public double getWinRate() { return ratio(wins, games); }
+        public double getAverageScore() { return ratio(totalScore, games); }
+        public double getAverageMeldScore() { return ratio(totalMeldScore, games); }
+        public double getBidSuccessRate() { return ratio(bidsMade, bidsWon); }
+
+        private static double ratio(long value, long total) {
+            return total == 0 ? 0 : (double) value / total;
+        }
+    }
+
+    public TournamentSummary(String[] players) {
+        this.players = players;
+        this.stats = new PlayerStats[players.length];
+        for (int i = 0; i < players.length; i++) {
+            stats[i] = new PlayerStats();
+        }
+    }
+
+    /**
+     * Records a finished game, seatPlayers[seat] is the player sitting at that seat
+     */
+    public void addGame(HeadlessPinochle game, int[] seatPlayers) {
+        int[] scores = game.getScores();
+        int[] meldScores = game.getMeldScores();
+        int nbWinners = game.getWinners().size();
+
+        for (int seat = 0; seat < seatPlayers.length; seat++) {
+            PlayerStats playerStats = stats[seatPlayers[seat]];
+            playerStats.games++;
+            playerStats.totalScore += scores[seat];
+            playerStats.totalMeldScore += meldScores[seat];
+            if (game.getWinners().contains(seat)) {
+                if (nbWinners == 1) {
+                    playerStats.wins++;
+                } else {
+                    playerStats.draws++;
+                }
+            }
+            if (game.getBidWinPlayerIndex() == seat) {
+                playerStats.bidsWon++;
+                if (scores[seat] >= game.getCurrentBid()) {
+                    playerStats.bidsMade++;
+                }
+            }
+        }
+    }
+
+    public void merge(TournamentSummary other) {
+        for (int i = 0; i < stats.length; i++) {
+            stats[i].merge(other.stats[i]);
+        }
+    }
+
+    public PlayerStats getStats(int playerIndex) {
+        return stats[playerIndex];
+    }
+
+    public int getNbGames() {
+        return stats[0].games;
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : getNbGames() / (elapsedNanos / 1e9);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Games: %d (%.0f games/s)%n", getNbGames(), getGamesPerSecond()));
+        sb.append(String.format("%-3s %-18s %8s %8s %10s %10s %10s%n",
+                "P", "Strategy", "Win %", "Draw %", "Avg score", "Avg meld", "Bid made %"));
+        for (int i = 0; i < players.length; i++) {
+            PlayerStats playerStats = stats[i];
+            sb.append(String.format("%-3d %-18s %8.2f %8.2f %10.1f %10.1f %10.2f%n",
+                    i, players[i],
+                    100 * playerStats.getWinRate(),
+                    100 * PlayerStats.ratio(playerStats.draws, playerStats.games),
+                    playerStats.getAverageScore(),
+                    playerStats.getAverageMeldScore(),
+                    100 * playerStats.getBidSuccessRate()));
+        }
+        return sb.toString();
+    }
+}
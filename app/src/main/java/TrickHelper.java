@@ -7,89 +7,101 @@ public class TrickHelper {
     // VALIDATION UTILITIES =======
     public static boolean checkValidTrick(Card playingCard, List<Card> playerCards,
                                           List<Card> existingCards, String trumpSuit) {
-        if (existingCards.isEmpty()) {
+        return checkValidTrick(toCardId(playingCard), toCardIds(playerCards), toCardIds(existingCards), trumpSuit);
+    }
+
+    public static boolean checkValidTrick(int playingCard, List<Integer> playerCards,
+                                          List<Integer> existingCards, String trumpSuit) {
+        int leadCard = existingCards.isEmpty() ? CardData.NO_CARD : existingCards.get(0);
+        return checkValidTrick(playingCard, CardSet.of(playerCards), leadCard, trumpSuit);
+    }
+
+    public static boolean checkValidTrick(int playingCard, long playerCards, int leadCard, String trumpSuit) {
+        if (leadCard == CardData.NO_CARD) {
             return true;
         }
 
-        Card existingCard = existingCards.get(0);
-        Suit playingSuit = (Suit) playingCard.getSuit();
-        Suit existingSuit = (Suit) existingCard.getSuit();
-        Rank playingRank = (Rank) playingCard.getRank();
-        Rank existingRank = (Rank) existingCard.getRank();
-
         // Same Suit, Higher Rank, then valid
-        if (isSameSuit(playingCard, existingCard) &&
-                playingRank.getRankCardValue() > existingRank.getRankCardValue()) {
+        long higherCards = CardSet.higherMask(leadCard);
+        if (CardSet.contains(higherCards, playingCard)) {
             return true;
         }
 
         // If the chosen is not the same suit, higher rank and there is one, then not valid
-        Card higherCard = getHigherCardFromList(existingCard, playerCards);
-        if (higherCard != null) {
+        if ((playerCards & higherCards) != CardSet.EMPTY) {
             return false;
         }
 
-        boolean isExistingTrump = existingSuit.getSuitShortHand().equals(trumpSuit);
-        boolean isPlayingTrump = playingSuit.getSuitShortHand().equals(trumpSuit);
+        int trumpIndex = CardData.getSuitIndex(trumpSuit);
         // If the current is trump, then there is already no trump card with higher rank.
         // Otherwise, the above if should return false.
-        if (isExistingTrump) {
+        if (CardData.getSuitIndex(leadCard) == trumpIndex) {
             return true;
         }
 
         // If the current is not trump card, then playing trump card is valid
-        if (isPlayingTrump) {
+        if (CardData.getSuitIndex(playingCard) == trumpIndex) {
             return true;
         }
 
         // If the current is not trump card, and we have a trump card,
         // but not having a same suit, higher rank card, then we have to play trump card
-        Card trumpCard = getTrumpCard(playerCards, trumpSuit);
-        if (trumpCard != null) {
-            return false;
-        }
-
         // If we dont have a trump card, any card is valid
-        return true;
+        return (playerCards & CardSet.suitMask(trumpSuit)) == CardSet.EMPTY;
     }
 
     public static List<Card> getValidCards(List<Card> playerCards, List<Card> playingAreaCards, String trumpSuit) {
-        if (playingAreaCards.isEmpty()) {
-            return new ArrayList<>(playerCards);
-        }
-
-        Card leadCard = playingAreaCards.get(0);
-        String leadSuit = ((Suit) leadCard.getSuit()).getSuitShortHand();
-        int leadRank = ((Rank) leadCard.getRank()).getRankCardValue();
+        long validCards = getValidCards(toCardSet(playerCards), getLeadCard(toCardIds(playingAreaCards)), trumpSuit);
+        return playerCards.stream()
+                .filter(card -> CardSet.contains(validCards, toCardId(card)))
+                .collect(Collectors.toList());
+    }
 
-        // Must play higher same suit if possible
-        List<Card> higherSameSuit = playerCards.stream()
-                .filter(card -> {
-                    String cardSuit = ((Suit) card.getSuit()).getSuitShortHand();
-                    int cardRank = ((Rank) card.getRank()).getRankCardValue();
-                    return cardSuit.equals(leadSuit) && cardRank > leadRank;
-                })
+    public static List<Integer> getValidCardIds(List<Integer> playerCards, List<Integer> playingAreaCards, String trumpSuit) {
+        long validCards = getValidCards(CardSet.of(playerCards), getLeadCard(playingAreaCards), trumpSuit);
+        return playerCards.stream()
+                .filter(card -> CardSet.contains(validCards, card))
                 .collect(Collectors.toList());
+    }
 
-        if (!higherSameSuit.isEmpty()) return higherSameSuit;
+    /**
+     * Cards of the hand that may be played on the lead card, the whole hand when leading (NO_CARD)
+     */
+    public static long getValidCards(long playerCards, int leadCard, String trumpSuit) {
+        if (leadCard == CardData.NO_CARD) {
+            return playerCards;
+        }
 
-        // Must follow suit if possible
-        List<Card> sameSuit = playerCards.stream()
-                .filter(card -> ((Suit) card.getSuit()).getSuitShortHand().equals(leadSuit))
-                .collect(Collectors.toList());
+        // Must play higher same suit if possible
+        long higherSameSuit = playerCards & CardSet.higherMask(leadCard);
+        if (higherSameSuit != CardSet.EMPTY) return higherSameSuit;
 
-        if (!sameSuit.isEmpty()) return sameSuit;
+        // Must follow suit if possible
+        int leadSuit = CardData.getSuitIndex(leadCard);
+        long sameSuit = playerCards & CardSet.suitMask(leadSuit);
+        if (sameSuit != CardSet.EMPTY) return sameSuit;
 
         // Must trump if possible (and lead isn't trump)
-        if (!leadSuit.equals(trumpSuit)) {
-            List<Card> trumpCards = playerCards.stream()
-                    .filter(card -> ((Suit) card.getSuit()).getSuitShortHand().equals(trumpSuit))
-                    .collect(Collectors.toList());
-
-            if (!trumpCards.isEmpty()) return trumpCards;
+        if (leadSuit != CardData.getSuitIndex(trumpSuit)) {
+            long trumpCards = playerCards & CardSet.suitMask(trumpSuit);
+            if (trumpCards != CardSet.EMPTY) return trumpCards;
         }
 
-        return new ArrayList<>(playerCards);
+        return playerCards;
+    }
+
+    public static int getLeadCard(List<Integer> playingAreaCards) {
+        return playingAreaCards.isEmpty() ? CardData.NO_CARD : playingAreaCards.get(0);
+    }
+
+
+    // SCORING UTILITIES =======
+    public static int getCardScore(int card, String trumpSuit) {
+        Rank rank = CardData.getRank(card);
+        if (rank == Rank.NINE && CardData.isSuit(card, trumpSuit)) {
+            return Rank.NINE_TRUMP;
+        }
+        return rank.getScoreValue();
     }
 
 
@@ -136,47 +148,63 @@ public class TrickHelper {
             return null;
         }
 
+        int card = getCardIdFromString(toCardIds(cards), cardName);
+        return card == CardData.NO_CARD ? null : findCard(cards, card);
+    }
+
+    public static int getCardIdFromString(List<Integer> cards, String cardName) {
+        if (cardName == null || cardName.isEmpty() || cards == null) {
+            return CardData.NO_CARD;
+        }
+
         Rank targetRank = getRankFromString(cardName);
         Suit targetSuit = getSuitFromString(cardName);
 
         return cards.stream()
-                .filter(card -> {
-                    Suit cardSuit = (Suit) card.getSuit();
-                    Rank cardRank = (Rank) card.getRank();
-                    return cardSuit.getSuitShortHand().equals(targetSuit.getSuitShortHand()) &&
-                            cardRank.getRankCardValue() == targetRank.getRankCardValue();
-                })
+                .filter(card -> CardData.isSuit(card, targetSuit.getSuitShortHand()) &&
+                        CardData.getRankCardValue(card) == targetRank.getRankCardValue())
                 .findFirst()
-                .orElse(null);
+                .orElse(CardData.NO_CARD);
+    }
+
+    public static int getCardIdFromString(long cards, String cardName) {
+        if (cardName == null || cardName.isEmpty()) {
+            return CardData.NO_CARD;
+        }
+
+        Rank targetRank = getRankFromString(cardName);
+        Suit targetSuit = getSuitFromString(cardName);
+        return CardSet.first(cards & CardSet.kindMask(CardData.of(targetSuit, targetRank)));
     }
 
 
-    // PRIVATE UTILITIES =======
-    private static boolean isSameSuit(Card card1, Card card2) {
-        Suit card1Suit = (Suit) card1.getSuit();
-        Suit card2Suit = (Suit) card2.getSuit();
-        return card1Suit.getSuitShortHand().equals(card2Suit.getSuitShortHand());
+    // CONVERSION UTILITIES =======
+    public static int toCardId(Card card) {
+        return CardData.of((Suit) card.getSuit(), (Rank) card.getRank());
     }
 
-    private static Card getHigherCardFromList(Card existingCard, List<Card> cards) {
-        return cards.stream()
-                .filter(playerCard -> isSameSuit(existingCard, playerCard) &&
-                        isHigherRank(playerCard, existingCard))
-                .findAny()
-                .orElse(null);
+    public static List<Integer> toCardIds(List<Card> cards) {
+        List<Integer> cardIds = new ArrayList<>(cards.size());
+        for (Card card : cards) {
+            cardIds.add(toCardId(card));
+        }
+        return cardIds;
     }
 
-    private static boolean isHigherRank(Card card1, Card card2) {
-        Rank card1Rank = (Rank) card1.getRank();
-        Rank card2Rank = (Rank) card2.getRank();
-        return card1Rank.getRankCardValue() > card2Rank.getRankCardValue();
+    public static long toCardSet(List<Card> cards) {
+        long cardSet = CardSet.EMPTY;
+        for (Card card : cards) {
+            cardSet = CardSet.add(cardSet, toCardId(card));
+        }
+        return cardSet;
     }
 
-    private static Card getTrumpCard(List<Card> cards, String trumpSuit) {
-        return cards.stream()
-                .filter(playerCard -> {
-                    Suit playerCardSuit = (Suit) playerCard.getSuit();
-                    return playerCardSuit.getSuitShortHand().equals(trumpSuit);
-                }).findAny().orElse(null);
+    public static Card findCard(List<Card> cards, int cardId) {
+        for (Card card : cards) {
+            if (toCardId(card) == cardId) {
+                return card;
+            }
+        }
+        return null;
     }
 }
@@ -2,6 +2,7 @@ import ch.aplu.jcardgame.*;
 import ch.aplu.jgamegrid.GameGrid;
 
 import java.util.*;
+import java.util.random.RandomGenerator;
 
 /**
  * Class responsible for Trick taking logic
@@ -12,14 +13,27 @@ public class TrickManager {
     public static final int trickWidth = 40;
     public static final int handWidth = 400;
     private final CardGame game;
-    private final Set<Card> playedCards;
+    private final GameClock clock;
+    private long playedCards = CardSet.EMPTY;
     private final TrickTakingStrategy[] playerStrategies;
+    private final LatencyHistogram[] selectCardLatencies;
+    // Random plays of the seats without a strategy
+    private final RandomGenerator[] randomPlays;
     private String trumpSuit;
 
-    public TrickManager(CardGame game, TrickTakingStrategy[] playerStrategies) {
+    public TrickManager(CardGame game, GameClock clock, LatencyMetrics latencyMetrics, RuleContext rules,
+                        TrickTakingStrategy[] playerStrategies) {
         this.game = game;
+        this.clock = clock;
         this.playerStrategies = playerStrategies;
-        this.playedCards = new HashSet<>();
+        this.selectCardLatencies = new LatencyHistogram[playerStrategies.length];
+        this.randomPlays = new RandomGenerator[playerStrategies.length];
+        for (int i = 0; i < playerStrategies.length; i++) {
+            randomPlays[i] = rules.getRandom(RuleContext.RANDOM_PLAY_STREAM, i);
+            if (playerStrategies[i] != null) {
+                selectCardLatencies[i] = latencyMetrics.getStrategyCall(playerStrategies[i], "selectCard");
+            }
+        }
     }
 
     public Card selectCardForPlayer(int playerIndex, Hand[] playerHands,
@@ -35,7 +49,7 @@ public class TrickManager {
         }
 
         // Fallback to random selection
-        return selectRandomCard(playerHands[playerIndex]);
+        return selectRandomCard(playerIndex, playerHands[playerIndex]);
     }
 
     private Card selectAutoCard(int playerIndex, Hand[] playerHands,
@@ -53,29 +67,40 @@ public class TrickManager {
         if (playerStrategies[playerIndex] != null) {
             return selectStrategyCard(playerIndex, playerHands, -1, 0);
         }
-        return selectRandomCard(playerHands[playerIndex]);
+        return selectRandomCard(playerIndex, playerHands[playerIndex]);
     }
 
     private Card selectStrategyCard(int playerIndex, Hand[] playerHands,
                                     int bidWinnerIndex, int currentBid) {
-        Card selectedCard = playerStrategies[playerIndex].selectCard(
-                playerHands[playerIndex],
-                playingArea.getCardList(),
+        List<Card> handCards = playerHands[playerIndex].getCardList();
+        long hand = TrickHelper.toCardSet(handCards);
+        List<Integer> playingAreaCards = TrickHelper.toCardIds(playingArea.getCardList());
+        CardSelectionFlightEvent event = new CardSelectionFlightEvent();
+        event.begin();
+        long startTime = System.nanoTime();
+        int selectedCard = playerStrategies[playerIndex].selectCard(
+                hand,
+                playingAreaCards,
                 trumpSuit,
                 playedCards,
                 playerIndex,
                 bidWinnerIndex,
                 currentBid
         );
+        selectCardLatencies[playerIndex].record(System.nanoTime() - startTime);
+        event.end();
+        if (event.shouldCommit()) {
+            event.set(playerStrategies[playerIndex], playerIndex, hand, playingAreaCards, trumpSuit, selectedCard);
+            event.commit();
+        }
 
         // Record the played card
         playerStrategies[playerIndex].recordPlayedCard(selectedCard);
-        playedCards.add(selectedCard);
 
-        return selectedCard;
+        return TrickHelper.findCard(handCards, selectedCard);
     }
 
-    private Card selectRandomCard(Hand playerHand) {
+    private Card selectRandomCard(int playerIndex, Hand playerHand) {
         List<Card> validCards = TrickHelper.getValidCards(
                 playerHand.getCardList(), playingArea.getCardList(), trumpSuit);
 
@@ -91,8 +116,7 @@ public class TrickManager {
             }
         }
 
-        Random random = new Random();
-        return validCards.get(random.nextInt(validCards.size()));
+        return validCards.get(randomPlays[playerIndex].nextInt(validCards.size()));
     }
 
     private Card applyAutoMovement(Hand hand, String movement) {
@@ -126,9 +150,9 @@ public class TrickManager {
         playingArea.removeAll(true);
 
         // Update display
-        game.delay(delayTime);
+        clock.pause(delayTime);
         updateTrickHandDisplays();
-        game.delay(delayTime);
+        clock.pause(delayTime);
     }
 
     private void updateTrickHandDisplays() {
@@ -147,7 +171,7 @@ public class TrickManager {
     }
 
     public void resetForNewGame() {
-        playedCards.clear();
+        playedCards = CardSet.EMPTY;
         for (TrickTakingStrategy strategy : playerStrategies) {
             if (strategy != null) {
                 strategy.reset();
@@ -170,10 +194,10 @@ public class TrickManager {
     }
 
     public void recordPlayedCard(Card card) {
-        playedCards.add(card);
+        playedCards = CardSet.add(playedCards, TrickHelper.toCardId(card));
     }
 
-    public Set<Card> getPlayedCards() {
+    public long getPlayedCards() {
         return playedCards;
     }
 
@@ -0,0 +1,131 @@
+import java.util.SplittableRandom;
+
+/**
+ * Fast playout of the remaining tricks of a two player game with a fixed policy: the leader plays
+ * a random card, the follower wins the trick as cheaply as possible, otherwise gives away its
+ * cheapest card. Hands are card sets and card points a table, so a playout allocates nothing and
+ * one instance can be shared by any number of threads.
+ *
+ * The policy never looks at which non trump suit a card is in: cheapest cards are ordered by
+ * points, rank and trump, and equal cards of different non trump suits are picked at random.
+ * Permuting the non trump suits of both hands therefore doesn't change the distribution of the
+ * points.
+ */
+public final class TrickRollout {
+    private final String trumpSuit;
+    private final int trumpIndex;
+    private final int[] cardScores = new int[CardData.NB_CARDS];
+    // Points, then rank, then trumps after the other suits: the order cheapest picks in
+    private final int[] cheapestOrder = new int[CardData.NB_CARDS];
+
+    public TrickRollout(String trumpSuit) {
+        this.trumpSuit = trumpSuit;
+        this.trumpIndex = CardData.getSuitIndex(trumpSuit);
+        for (int card = 0; card < CardData.NB_CARDS; card++) {
+            cardScores[card] = TrickHelper.getCardScore(card, trumpSuit);
+            cheapestOrder[card] = (cardScores[card] * Rank.values().length + CardData.getRankCardValue(card)) * 2
+                    + (CardData.getSuitIndex(card) == trumpIndex ? 1 : 0);
+        }
+    }
+
+    public String getTrumpSuit() {
+        return trumpSuit;
+    }
+
+    public int getCardScore(int card) {
+        return cardScores[card];
+    }
+
+    /**
+     * Our trick points from playing until the hands are empty. The lead is the card already
+     * played in the current trick (NO_CARD between tricks) and myTurn tells who plays next.
+     */
+    public int playout(long myHand, long opponentHand, int lead, boolean myTurn, SplittableRandom random) {
+        int points = 0;
+        while (myHand != CardSet.EMPTY || opponentHand != CardSet.EMPTY) {
+            long hand = myTurn ? myHand : opponentHand;
+            int card;
+            if (lead == CardData.NO_CARD) {
+                card = CardSet.get(hand, random.nextInt(CardSet.size(hand)));
+            } else {
+                card = selectFollowingCard(hand, lead, random);
+            }
+            if (myTurn) {
+                myHand = CardSet.remove(myHand, card);
+            } else {
+                opponentHand = CardSet.remove(opponentHand, card);
+            }
+
+            if (lead == CardData.NO_CARD) {
+                lead = card;
+                myTurn = !myTurn;
+            } else {
+                // The follower is index 0 when it's us
+                boolean iWin = TrickWinnerCalculator.checkWinner(lead, card, trumpSuit, myTurn ? 0 : 1) == 0;
+                points += iWin ? cardScores[lead] + cardScores[card] : 0;
+                lead = CardData.NO_CARD;
+                myTurn = iWin;
+            }
+        }
+        return points;
+    }
+
+    /**
+     * Playout policy: win the trick as cheaply as possible, otherwise give away the cheapest card
+     */
+    int selectFollowingCard(long hand, int lead, SplittableRandom random) {
+        long validCards = TrickHelper.getValidCards(hand, lead, trumpSuit);
+        long winners = validCards & CardSet.higherMask(lead);
+        if (winners == CardSet.EMPTY && CardData.getSuitIndex(lead) != trumpIndex) {
+            winners = validCards & CardSet.suitMask(trumpIndex);
+        }
+        return cheapest(winners != CardSet.EMPTY ? winners : validCards, random);
+    }
+
+    private int cheapest(long cards, SplittableRandom random) {
+        int bestCard = CardData.NO_CARD;
+        int bestOrder = Integer.MAX_VALUE;
+        // Kinds of the cards tied with the best one, both copies of a kind being the same card
+        long tiedKinds = CardSet.EMPTY;
+        for (; cards != CardSet.EMPTY; cards &= cards - 1) {
+            int card = CardSet.first(cards);
+            int order = cheapestOrder[card];
+            if (order < bestOrder) {
+                bestOrder = order;
+                bestCard = card;
+                tiedKinds = 1L << CardSet.getKind(card);
+            } else if (order == bestOrder && (tiedKinds & 1L << CardSet.getKind(card)) == 0) {
+                // Same rank in another non trump suit, every such suit is equally likely (reservoir sampling)
+                tiedKinds |= 1L << CardSet.getKind(card);
+                if (random.nextInt(Long.bitCount(tiedKinds)) == 0) {
+                    bestCard = card;
+                }
+            }
+        }
+        return bestCard;
+    }
+
+    /**
+     * Deals a random hand of the given size from the pool with a partial Fisher-Yates shuffle.
+     * The pool is reordered in place, so every thread keeps its own copy.
+     */
+    public static long sampleHand(int[] pool, int handSize, SplittableRandom random) {
+        long hand = CardSet.EMPTY;
+        for (int i = 0; i < handSize; i++) {
+            int j = i + random.nextInt(pool.length - i);
+            int card = pool[j];
+            pool[j] = pool[i];
+            pool[i] = card;
+            hand = CardSet.add(hand, card);
+        }
+        return hand;
+    }
+
+    public static int[] toArray(long cards) {
+        int[] array = new int[CardSet.size(cards)];
+        for (int i = 0; i < array.length; i++, cards &= cards - 1) {
+            array[i] = CardSet.first(cards);
+        }
+        return array;
+    }
+}
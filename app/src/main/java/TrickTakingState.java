@@ -2,7 +2,7 @@
  * The trick taking game state
  */
 public class TrickTakingState extends GameState {
-    public TrickTakingState(Pinochle gameContext) {
+    public TrickTakingState(GameContext gameContext) {
         super(gameContext);
     }
 
@@ -1,11 +1,12 @@
-import ch.aplu.jcardgame.*;
 import java.util.*;
 
 
 public interface TrickTakingStrategy {
-    Card selectCard(Hand playerHand, List<Card> playingAreaCards, String trumpSuit,
-                    Set<Card> playedCards, int playerIndex, int bidWinnerIndex, int currentBid);
-    void recordPlayedCard(Card card);
+    /**
+     * playerHand and playedCards are card sets (see CardSet), returns the selected card id
+     */
+    int selectCard(long playerHand, List<Integer> playingAreaCards, String trumpSuit,
+                   long playedCards, int playerIndex, int bidWinnerIndex, int currentBid);
+    void recordPlayedCard(int card);
     void reset();
 }
-
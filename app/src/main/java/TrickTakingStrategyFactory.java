@@ -1,16 +1,25 @@
-import java.util.Random;
-
 public class TrickTakingStrategyFactory {
     public static final String SMART_TRICK_TAKING = "smart";
     public static final String RANDOM_TRICK_TAKING = "random";
+    public static final String DOUBLE_DUMMY_TRICK_TAKING = "doubledummy";
+    public static final String MONTE_CARLO_TRICK_TAKING = "montecarlo";
 
-    public static TrickTakingStrategy createStrategy(String strategyType, Random random) {
+    /**
+     * The strategy draws from the trick taking stream of its seat in the game's rule context
+     */
+    public static TrickTakingStrategy createStrategy(String strategyType, RuleContext rules, int seat) {
         switch (strategyType) {
             case SMART_TRICK_TAKING:
                 return new SmartTrickTakingStrategy();
+            case DOUBLE_DUMMY_TRICK_TAKING:
+                return new DoubleDummyTrickTakingStrategy();
+            case MONTE_CARLO_TRICK_TAKING:
+                return new MonteCarloTrickTakingStrategy(rules.getRandom(RuleContext.TRICK_TAKING_STREAM, seat),
+                        rules.getTimeBudget(MonteCarloTrickTakingStrategy.DEFAULT_TIME_BUDGET_MILLIS),
+                        MonteCarloTrickTakingStrategy.DEFAULT_MAX_SAMPLES, rules.getSearchPool());
             case RANDOM_TRICK_TAKING:
             default:
-                return new RandomTrickTakingStrategy(random);
+                return new RandomTrickTakingStrategy(rules.getRandom(RuleContext.TRICK_TAKING_STREAM, seat));
         }
     }
 }
\ No newline at end of file
@@ -6,22 +6,25 @@ public class TrickWinnerCalculator {
     public static int checkWinner(List<Card> playingAreaCards, String trumpSuit,
                                   int currentPlayerIndex) {
         assert (playingAreaCards.size() == 2);
+        return checkWinner(TrickHelper.toCardId(playingAreaCards.get(0)),
+                TrickHelper.toCardId(playingAreaCards.get(1)), trumpSuit, currentPlayerIndex);
+    }
+
+    public static int checkWinner(int firstCard, int secondCard, String trumpSuit,
+                                  int currentPlayerIndex) {
         int previousPlayerIndex = Math.abs(currentPlayerIndex - 1) % 2;
-        Card firstCard = playingAreaCards.get(0);
-        Card secondCard = playingAreaCards.get(1);
 
-        Suit firstSuit = (Suit) firstCard.getSuit();
-        Suit secondSuit = (Suit) secondCard.getSuit();
-        Rank firstRank = (Rank) firstCard.getRank();
-        Rank secondRank = (Rank) secondCard.getRank();
+        int firstSuit = CardData.getSuitIndex(firstCard);
+        int secondSuit = CardData.getSuitIndex(secondCard);
 
-        if (firstSuit.getSuitShortHand().equals(secondSuit.getSuitShortHand())) {
-            return secondRank.getRankCardValue() > firstRank.getRankCardValue()
+        if (firstSuit == secondSuit) {
+            return CardData.getRankCardValue(secondCard) > CardData.getRankCardValue(firstCard)
                     ? currentPlayerIndex : previousPlayerIndex;
         }
 
-        boolean firstIsTrump = firstSuit.getSuitShortHand().equals(trumpSuit);
-        boolean secondIsTrump = secondSuit.getSuitShortHand().equals(trumpSuit);
+        int trumpIndex = CardData.getSuitIndex(trumpSuit);
+        boolean firstIsTrump = firstSuit == trumpIndex;
+        boolean secondIsTrump = secondSuit == trumpIndex;
 
         if (firstIsTrump && !secondIsTrump) {
             return previousPlayerIndex;
@@ -32,4 +35,4 @@ public class TrickWinnerCalculator {
 
         return previousPlayerIndex;
     }
-}
\ No newline at end of file
+}
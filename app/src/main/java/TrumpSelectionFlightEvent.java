@@ -0,0 +1,22 @@
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event for the choice of the trump suit, its duration is the time the
+ * choice took, waiting for the human included
+ */
+@Name("pinochle.TrumpSelection")
+@Label("Trump Selection")
+@Category({ "Pinochle", "Strategy" })
+@Description("The bid winner chose the trump suit")
+@StackTrace(false)
+public class TrumpSelectionFlightEvent extends jdk.jfr.Event {
+    @Label("Player")
+    int player;
+
+    @Label("Trump Suit")
+    String trumpSuit;
+}
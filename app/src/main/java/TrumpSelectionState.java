@@ -2,14 +2,14 @@
  * The trump selection game state
  */
 public class TrumpSelectionState extends GameState {
-    public TrumpSelectionState(Pinochle gameContext) {
+    public TrumpSelectionState(GameContext gameContext) {
         super(gameContext);
     }
 
     @Override
     public void handle() {
         gameContext.performTrumpSelection();
-        if (gameContext.config.isCutthroatMode()) {
+        if (gameContext.getConfig().isCutthroatMode()) {
             gameContext.setState(new CutthroatState(gameContext));
         } else {
             gameContext.setState(new MeldingState(gameContext));
@@ -0,0 +1,163 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Chooses the trump suit of a bid winner's hand: every suit is scored on its own task as its exact
+ * meld (HandProfile) plus the average trick points of playouts against opponent hands dealt from the
+ * unseen cards, and the best total wins. Samples stop at the latency ceiling. The playout policy
+ * doesn't tell the non trump suits apart (TrickRollout), so hands that only differ by a permutation
+ * of them have the same expected trick points: a suit's samples are played on the canonical hand
+ * (HandEvaluationCache.canonicalize) and seeded from it, and finished estimates are cached by
+ * canonical hand and trump suit for every game sharing the selector.
+ */
+public class TrumpSuitSelector {
+    public static final long DEFAULT_LATENCY_CEILING_MILLIS = 50;
+    public static final int DEFAULT_SAMPLES_PER_SUIT = 250;
+    // Every suit gets all its samples whatever the time taken
+    public static final long NO_LATENCY_CEILING = Long.MAX_VALUE;
+
+    // Hands and trump suits whose trick points are kept. Random deals rarely repeat a hand, but
+    // replaying the same deals (the same master seed) skips every evaluation, and a lookup costs
+    // next to nothing against the playouts
+    private static final int CACHE_CAPACITY = 1 << 16;
+
+    private static final TrumpSuitSelector ORIGINAL_MELDS = new TrumpSuitSelector(false);
+    private static final TrumpSuitSelector ADDITIONAL_MELDS = new TrumpSuitSelector(true);
+    private static final TrumpSuitSelector UNBOUNDED_ORIGINAL_MELDS = new TrumpSuitSelector(false,
+            NO_LATENCY_CEILING, DEFAULT_SAMPLES_PER_SUIT, ForkJoinPool.commonPool());
+    private static final TrumpSuitSelector UNBOUNDED_ADDITIONAL_MELDS = new TrumpSuitSelector(true,
+            NO_LATENCY_CEILING, DEFAULT_SAMPLES_PER_SUIT, ForkJoinPool.commonPool());
+
+    private final boolean useAdditionalMelds;
+    private final TrickRollout[] rollouts = new TrickRollout[CardData.NB_SUITS];
+    private final long latencyCeilingNanos;
+    private final int samplesPerSuit;
+    private final ForkJoinPool pool;
+    private final HandEvaluationCache cache = new HandEvaluationCache(CACHE_CAPACITY);
+
+    public TrumpSuitSelector(boolean useAdditionalMelds) {
+        this(useAdditionalMelds, DEFAULT_LATENCY_CEILING_MILLIS, DEFAULT_SAMPLES_PER_SUIT, ForkJoinPool.commonPool());
+    }
+
+    public TrumpSuitSelector(boolean useAdditionalMelds, long latencyCeilingMillis, int samplesPerSuit, ForkJoinPool pool) {
+        this.useAdditionalMelds = useAdditionalMelds;
+        for (int suitIndex = 0; suitIndex < CardData.NB_SUITS; suitIndex++) {
+            rollouts[suitIndex] = new TrickRollout(Suit.values()[suitIndex].getSuitShortHand());
+        }
+        this.latencyCeilingNanos = latencyCeilingMillis == NO_LATENCY_CEILING ? Long.MAX_VALUE
+                : latencyCeilingMillis * 1_000_000L;
+        this.samplesPerSuit = samplesPerSuit;
+        this.pool = pool;
+    }
+
+    /**
+     * The selector shared by the games of a rule set
+     */
+    public static TrumpSuitSelector getInstance(boolean useAdditionalMelds) {
+        return useAdditionalMelds ? ADDITIONAL_MELDS : ORIGINAL_MELDS;
+    }
+
+    /**
+     * The selector shared by headless games of a rule set, without latency ceiling: evaluations
+     * always finish, so a seeded game picks the same suit however loaded the machine is
+     */
+    public static TrumpSuitSelector getUnboundedInstance(boolean useAdditionalMelds) {
+        return useAdditionalMelds ? UNBOUNDED_ADDITIONAL_MELDS : UNBOUNDED_ORIGINAL_MELDS;
+    }
+
+    public String selectTrumpSuit(long hand) {
+        return selectTrumpSuit(new HandProfile(hand, useAdditionalMelds));
+    }
+
+    public String selectTrumpSuit(HandProfile profile) {
+        double[] scores = evaluate(profile);
+        int bestIndex = 0;
+        for (int suitIndex = 1; suitIndex < CardData.NB_SUITS; suitIndex++) {
+            if (scores[suitIndex] > scores[bestIndex]) {
+                bestIndex = suitIndex;
+            }
+        }
+        return Suit.values()[bestIndex].getSuitShortHand();
+    }
+
+    /**
+     * Expected meld plus trick points of the hand with every suit as trump, by suit index
+     */
+    public double[] evaluate(HandProfile profile) {
+        long[] keys = new long[CardData.NB_SUITS];
+        double[] scores = new double[CardData.NB_SUITS];
+        List<Integer> missingSuits = new ArrayList<>();
+        for (int suitIndex = 0; suitIndex < CardData.NB_SUITS; suitIndex++) {
+            keys[suitIndex] = getKey(profile.getHand(), suitIndex);
+            long trickPoints = cache.get(keys[suitIndex]);
+            if (trickPoints == HandEvaluationCache.NO_VALUE) {
+                missingSuits.add(suitIndex);
+            } else {
+                scores[suitIndex] = profile.getMeldScore(suitIndex) + Double.longBitsToDouble(trickPoints);
+            }
+        }
+        if (missingSuits.isEmpty()) {
+            return scores;
+        }
+
+        long deadline = latencyCeilingNanos == Long.MAX_VALUE ? Long.MAX_VALUE
+                : System.nanoTime() + latencyCeilingNanos;
+        List<ForkJoinTask<double[]>> tasks = new ArrayList<>();
+        for (int i = 1; i < missingSuits.size(); i++) {
+            int suitIndex = missingSuits.get(i);
+            tasks.add(pool.submit(() -> evaluateSuit(keys[suitIndex], suitIndex, deadline)));
+        }
+        // The calling thread always takes part, so there is an answer even when the pool is busy
+        for (int i = 0; i < missingSuits.size(); i++) {
+            int suitIndex = missingSuits.get(i);
+            double[] result = i == 0 ? evaluateSuit(keys[suitIndex], suitIndex, deadline) : tasks.get(i - 1).join();
+            scores[suitIndex] = profile.getMeldScore(suitIndex) + result[0];
+            // Evaluations cut short by the ceiling would make the choice depend on timing once cached
+            if (result[1] == samplesPerSuit) {
+                cache.put(keys[suitIndex], Double.doubleToLongBits(result[0]));
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * The hand canonicalized under the permutations of the non trump suits, and the trump suit
+     */
+    private static long getKey(long hand, int trumpIndex) {
+        int nonTrumpSuits = (1 << CardData.NB_SUITS) - 1 & ~(1 << trumpIndex);
+        return HandEvaluationCache.getKey(hand, trumpIndex, nonTrumpSuits);
+    }
+
+    /**
+     * Expected trick points of the key's canonical hand with the suit as trump and the number of
+     * samples they were averaged over
+     */
+    private double[] evaluateSuit(long key, int suitIndex, long deadline) {
+        TrickRollout rollout = rollouts[suitIndex];
+        long hand = key & CardSet.FULL;
+        SplittableRandom random = new SplittableRandom(RuleContext.deriveSeed(hand, suitIndex));
+        int[] pool = TrickRollout.toArray(CardSet.FULL & ~hand);
+        int handSize = CardSet.size(hand);
+
+        long trickPoints = 0;
+        int nbSamples = 0;
+        while (nbSamples < samplesPerSuit && (nbSamples == 0 || System.nanoTime() < deadline)) {
+            long opponentHand = TrickRollout.sampleHand(pool, handSize, random);
+            // The bid winner leads the first trick
+            trickPoints += rollout.playout(hand, opponentHand, CardData.NO_CARD, true, random);
+            nbSamples++;
+        }
+        return new double[] { (double) trickPoints / nbSamples, nbSamples };
+    }
+
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    public HandEvaluationCache getCache() {
+        return cache;
+    }
+}
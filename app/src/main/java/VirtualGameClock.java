@@ -0,0 +1,21 @@
+/**
+ * Advances instantly: a pause only adds to the elapsed time, for automated games and simulations
+ */
+public class VirtualGameClock implements GameClock {
+    private long elapsedMillis = 0;
+
+    @Override
+    public synchronized void pause(long milliseconds) {
+        elapsedMillis += milliseconds;
+    }
+
+    @Override
+    public synchronized long elapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public synchronized long pausedMillis() {
+        return elapsedMillis;
+    }
+}
@@ -0,0 +1,149 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestCardSet {
+    private static final int ACE_OF_SPADES = CardData.of(Suit.SPADES, Rank.ACE);
+    private static final int KING_OF_SPADES = CardData.of(Suit.SPADES, Rank.KING);
+    private static final int TEN_OF_SPADES = CardData.of(Suit.SPADES, Rank.TEN);
+    private static final int NINE_OF_SPADES = CardData.of(Suit.SPADES, Rank.NINE);
+
+    @Test(timeout = 5000)
+    public void testAddRemoveContains() {
+        long set = CardSet.EMPTY;
+        assertTrue(CardSet.isEmpty(set));
+        for (int card = 0; card < CardData.NB_CARDS; card++) {
+            assertFalse(CardSet.contains(set, card));
+            set = CardSet.add(set, card);
+            assertTrue(CardSet.contains(set, card));
+            assertEquals(card + 1, CardSet.size(set));
+            // Adding a card twice doesn't add a copy
+            assertEquals(set, CardSet.add(set, card));
+        }
+        assertEquals(CardSet.FULL, set);
+        assertEquals(CardData.NB_CARDS, CardSet.size(CardSet.FULL));
+
+        // The two copies of a kind are different cards
+        long firstCopy = CardSet.add(CardSet.EMPTY, ACE_OF_SPADES);
+        long secondCopy = CardSet.add(CardSet.EMPTY, ACE_OF_SPADES + CardSet.NB_KINDS);
+        assertTrue(firstCopy != secondCopy);
+        assertFalse(CardSet.contains(firstCopy, ACE_OF_SPADES + CardSet.NB_KINDS));
+        assertEquals(firstCopy, CardSet.remove(firstCopy | secondCopy, ACE_OF_SPADES + CardSet.NB_KINDS));
+        assertEquals(secondCopy, CardSet.remove(firstCopy | secondCopy, ACE_OF_SPADES));
+
+        for (int card = CardData.NB_CARDS - 1; card >= 0; card--) {
+            set = CardSet.remove(set, card);
+            assertFalse(CardSet.contains(set, card));
+            assertEquals(card, CardSet.size(set));
+            assertEquals(set, CardSet.remove(set, card));
+        }
+        assertTrue(CardSet.isEmpty(set));
+    }
+
+    @Test(timeout = 5000)
+    public void testKindsOfBothCopies() {
+        for (int kind = 0; kind < CardSet.NB_KINDS; kind++) {
+            int secondCopy = kind + CardSet.NB_KINDS;
+            assertEquals(kind, CardSet.getKind(kind));
+            assertEquals(kind, CardSet.getKind(secondCopy));
+            assertEquals(CardData.getSuitIndex(kind), CardData.getSuitIndex(secondCopy));
+            assertEquals(CardData.getRank(kind), CardData.getRank(secondCopy));
+            assertEquals(CardData.getCardLog(kind), CardData.getCardLog(secondCopy));
+
+            long bothCopies = (1L << kind) | (1L << secondCopy);
+            assertEquals(bothCopies, CardSet.kindMask(kind));
+            assertEquals(bothCopies, CardSet.kindMask(secondCopy));
+
+            assertEquals(0, CardSet.count(CardSet.EMPTY, kind));
+            assertEquals(1, CardSet.count(CardSet.add(CardSet.EMPTY, kind), kind));
+            assertEquals(1, CardSet.count(CardSet.add(CardSet.EMPTY, secondCopy), kind));
+            assertEquals(2, CardSet.count(bothCopies, kind));
+            assertEquals(2, CardSet.count(CardSet.FULL, kind));
+        }
+
+        // Kind masks are 24 bits whichever copies are held
+        long hand = CardSet.add(CardSet.add(CardSet.add(CardSet.EMPTY, ACE_OF_SPADES),
+                KING_OF_SPADES + CardSet.NB_KINDS), TEN_OF_SPADES);
+        hand = CardSet.add(hand, TEN_OF_SPADES + CardSet.NB_KINDS);
+        assertEquals((1L << ACE_OF_SPADES) | (1L << KING_OF_SPADES) | (1L << TEN_OF_SPADES), CardSet.kindsAtLeastOne(hand));
+        assertEquals(1L << TEN_OF_SPADES, CardSet.kindsBoth(hand));
+        assertEquals((1L << CardSet.NB_KINDS) - 1, CardSet.kindsAtLeastOne(CardSet.FULL));
+        assertEquals((1L << CardSet.NB_KINDS) - 1, CardSet.kindsBoth(CardSet.FULL));
+        assertEquals(CardSet.EMPTY, CardSet.kindsBoth(CardSet.FULL >>> CardSet.NB_KINDS));
+    }
+
+    @Test(timeout = 5000)
+    public void testIterationOrder() {
+        assertEquals(CardData.NO_CARD, CardSet.first(CardSet.EMPTY));
+        assertEquals(CardData.NB_CARDS - 1, CardSet.first(CardSet.add(CardSet.EMPTY, CardData.NB_CARDS - 1)));
+        assertEquals(CardSet.NB_KINDS, CardSet.first(CardSet.FULL & ~((1L << CardSet.NB_KINDS) - 1)));
+
+        Random random = new Random(4);
+        for (int i = 0; i < 1000; i++) {
+            long set = random.nextLong() & CardSet.FULL;
+            List<Integer> cards = CardSet.toList(set);
+            List<Integer> expected = new ArrayList<>();
+            for (int card = 0; card < CardData.NB_CARDS; card++) {
+                if ((set >>> card & 1) != 0) {
+                    expected.add(card);
+                }
+            }
+            assertEquals(expected, cards);
+            assertEquals(set, CardSet.of(cards));
+            assertEquals(cards.isEmpty() ? CardData.NO_CARD : (int) cards.get(0), CardSet.first(set));
+            for (int index = 0; index < cards.size(); index++) {
+                assertEquals((int) cards.get(index), CardSet.get(set, index));
+            }
+            assertEquals(CardData.NO_CARD, CardSet.get(set, cards.size()));
+        }
+    }
+
+    @Test(timeout = 5000)
+    public void testSuitMasks() {
+        long allSuits = CardSet.EMPTY;
+        for (int suitIndex = 0; suitIndex < CardData.NB_SUITS; suitIndex++) {
+            long suit = CardSet.suitMask(suitIndex);
+            // Six ranks, two copies each
+            assertEquals(12, CardSet.size(suit));
+            assertEquals(CardSet.EMPTY, allSuits & suit);
+            allSuits |= suit;
+            for (int card : CardSet.toList(suit)) {
+                assertEquals(suitIndex, CardData.getSuitIndex(card));
+                assertTrue(CardSet.contains(suit, (card + CardSet.NB_KINDS) % CardData.NB_CARDS));
+            }
+            assertEquals(suit, CardSet.suitMask(Suit.values()[suitIndex].getSuitShortHand()));
+        }
+        assertEquals(CardSet.FULL, allSuits);
+        assertEquals(CardSet.EMPTY, CardSet.suitMask("X"));
+    }
+
+    @Test(timeout = 5000)
+    public void testHigherMasks() {
+        // Ace, ten, king, queen, jack, nine
+        long aces = CardSet.kindMask(ACE_OF_SPADES);
+        long tens = CardSet.kindMask(TEN_OF_SPADES);
+        assertEquals(CardSet.EMPTY, CardSet.higherMask(ACE_OF_SPADES));
+        assertEquals(aces, CardSet.higherMask(TEN_OF_SPADES));
+        assertEquals(aces | tens, CardSet.higherMask(KING_OF_SPADES));
+        assertEquals(aces | tens, CardSet.higherMask(KING_OF_SPADES + CardSet.NB_KINDS));
+        assertEquals(CardSet.suitMask(0) & ~CardSet.kindMask(NINE_OF_SPADES), CardSet.higherMask(NINE_OF_SPADES));
+
+        for (int card = 0; card < CardData.NB_CARDS; card++) {
+            long higher = CardSet.higherMask(card);
+            assertEquals(higher, CardSet.higherMask((card + CardSet.NB_KINDS) % CardData.NB_CARDS));
+            assertEquals(higher, higher & CardSet.suitMask(CardData.getSuitIndex(card)));
+            assertEquals(CardSet.EMPTY, higher & CardSet.kindMask(card));
+            // Both copies of every higher rank
+            assertEquals(2 * (5 - CardData.getRankCardValue(card)), CardSet.size(higher));
+            for (int other : CardSet.toList(higher)) {
+                assertTrue(CardData.getRankCardValue(other) > CardData.getRankCardValue(card));
+            }
+        }
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * Card helpers shared by the tests
+ */
+final class TestCards {
+
+    /**
+     * The hand of the named cards, a card named twice is both copies
+     */
+    static long handOf(String... cardNames) {
+        long hand = CardSet.EMPTY;
+        for (String cardName : cardNames) {
+            hand = CardSet.add(hand, TrickHelper.getCardIdFromString(CardSet.FULL & ~hand, cardName));
+        }
+        return hand;
+    }
+}
@@ -0,0 +1,82 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestCutthroatKeepSearch {
+
+    @Test(timeout = 20000)
+    public void testCutthroatKeepSearch() {
+        Random random = new Random(3);
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            for (int i = 0; i < 20; i++) {
+                List<Integer> deck = new ArrayList<>(CardSet.toList(CardSet.FULL));
+                Collections.shuffle(deck, random);
+                List<Integer> cards = deck.subList(0, 14);
+                long hand = CardSet.of(cards);
+                String trumpSuit = Suit.values()[i % 4].getSuitShortHand();
+                CutthroatKeepSearch search = new CutthroatKeepSearch(trumpSuit, i % 2 == 0, 10_000, pool);
+
+                // Small enough to check every keep of 8 from 14 cards
+                int bestValue = Integer.MIN_VALUE;
+                for (int subset = 0; subset < 1 << cards.size(); subset++) {
+                    if (Integer.bitCount(subset) == 8) {
+                        long keep = CardSet.EMPTY;
+                        for (int j = 0; j < cards.size(); j++) {
+                            if ((subset >>> j & 1) != 0) keep = CardSet.add(keep, cards.get(j));
+                        }
+                        bestValue = Math.max(bestValue, search.evaluate(keep));
+                    }
+                }
+                long initialKeep = CardSet.of(cards.subList(0, 8));
+                long keep = search.selectKeep(hand, 8, initialKeep);
+                assertEquals(8, CardSet.size(keep));
+                assertEquals(hand, hand | keep);
+                assertEquals(bestValue, search.evaluate(keep));
+                List<Integer> discards = CutthroatHelper.searchCardsToDiscard(new HandProfile(hand, i % 2 == 0),
+                        trumpSuit, 8, RuleContext.NO_TIME_BUDGET, pool);
+                assertEquals(bestValue, search.evaluate(hand & ~CardSet.of(discards)));
+
+                // Out of time, the search still answers with the keep it started from or a better one
+                CutthroatKeepSearch hurried = new CutthroatKeepSearch(trumpSuit, i % 2 == 0, 0, pool);
+                assertTrue(hurried.evaluate(hurried.selectKeep(hand, 8, initialKeep)) >= search.evaluate(initialKeep));
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        // The ace of trumps completes a run, the bid winner takes it over a nine
+        long hand = TestCards.handOf("10S", "13S", "12S", "11S", "9D", "9D", "11D", "9C", "9C", "11C", "10H", "11H");
+        List<Integer> faceUpCards = List.of(TrickHelper.getCardIdFromString(CardSet.FULL & ~hand, "9H"),
+                TrickHelper.getCardIdFromString(CardSet.FULL & ~hand, "1S"));
+        StockpilePickSimulator simulator = new StockpilePickSimulator("S", false, 10_000, 50, ForkJoinPool.commonPool());
+        assertEquals(1, simulator.selectFaceUpCard(hand, faceUpCards, 22, 12, 5));
+        // The same seed draws the same stockpiles on any number of threads
+        ForkJoinPool widePool = new ForkJoinPool(3);
+        try {
+            StockpilePickSimulator wideSimulator = new StockpilePickSimulator("S", false, RuleContext.NO_TIME_BUDGET,
+                    50, widePool);
+            assertArrayEquals(simulator.evaluate(hand, faceUpCards, 22, 12, 5),
+                    wideSimulator.evaluate(hand, faceUpCards, 22, 12, 5), 0);
+        } finally {
+            widePool.shutdown();
+        }
+
+        Properties properties = new Properties();
+        properties.setProperty("mode.cutthroat", "true");
+        properties.setProperty("mode.smartdiscard", "true");
+        for (int i = 0; i < 20; i++) {
+            String logResult = new HeadlessPinochle(new GameConfig(properties), new RuleContext(i, false)).runApp();
+            assertEquals(12, logResult.lines().filter(line -> line.startsWith("Round")).count());
+        }
+    }
+}
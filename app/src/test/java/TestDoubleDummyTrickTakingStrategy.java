@@ -0,0 +1,46 @@
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestDoubleDummyTrickTakingStrategy {
+
+    @Test(timeout = 30000)
+    public void testDoubleDummyOutplaysHeuristic() {
+        // Same bidding, only the trick play differs
+        TournamentRunner runner = new TournamentRunner(new Properties(),
+                "smart:" + TrickTakingStrategyFactory.DOUBLE_DUMMY_TRICK_TAKING,
+                TrickTakingStrategyFactory.SMART_TRICK_TAKING, 100, 2);
+        TournamentSummary summary = runner.run();
+        assertTrue(summary.getStats(0).getAverageScore() > summary.getStats(1).getAverageScore());
+    }
+
+    @Test(timeout = 10000)
+    public void testDoubleDummyRejectsInconsistentPositions() {
+        DoubleDummyTrickTakingStrategy strategy = new DoubleDummyTrickTakingStrategy(10_000, 12);
+        long hand = CardSet.of(List.of(0, 7, 14));
+        long opponentHand = CardSet.of(List.of(1, 8, 15));
+        assertTrue(strategy.solveValue(hand, opponentHand, CardData.NO_CARD, "S") >= 0);
+        assertTrue(strategy.solveValue(hand, CardSet.remove(opponentHand, 15), 15, "S") >= 0);
+
+        int nbRejected = 0;
+        long[][] positions = {
+                // Opponent on lead with as many cards, player on lead with one card less, lead card in a hand, shared card
+                { hand, opponentHand, 20 },
+                { hand, CardSet.remove(opponentHand, 15), CardData.NO_CARD },
+                { hand, CardSet.remove(opponentHand, 15), 0 },
+                { hand, CardSet.add(CardSet.remove(opponentHand, 15), 0), CardData.NO_CARD },
+        };
+        for (long[] position : positions) {
+            try {
+                strategy.solveValue(position[0], position[1], (int) position[2], "S");
+            } catch (IllegalArgumentException e) {
+                nbRejected++;
+            }
+        }
+        assertEquals(positions.length, nbRejected);
+    }
+}
@@ -0,0 +1,45 @@
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestEventLog {
+
+    @Test(timeout = 10000)
+    public void testEventLogRendersTextLog() throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("mode.cutthroat", "true");
+        properties.setProperty("melds.additional", "true");
+        GameConfig config = new GameConfig(properties);
+
+        Path directory = Files.createTempDirectory("events");
+        List<Path> files;
+        StringBuilder textLogs = new StringBuilder();
+        // Small files so the games roll over to several of them
+        try (RollingEventLogWriter writer = new RollingEventLogWriter(directory, "games", 4096)) {
+            for (int i = 0; i < 100; i++) {
+                HeadlessPinochle game = new HeadlessPinochle(config, new RuleContext(i, true));
+                game.getGameLogger().addEventListener(new BinaryEventEncoder(writer));
+                textLogs.append(game.runApp());
+            }
+            files = writer.getFiles();
+        }
+
+        TextLogRenderer renderer = new TextLogRenderer();
+        int nbGames = 0;
+        for (Path file : files) {
+            nbGames += BinaryEventDecoder.decodeFile(file, renderer);
+            Files.delete(file);
+        }
+        Files.delete(directory);
+        assertTrue(files.size() > 1);
+        assertEquals(100, nbGames);
+        assertEquals(textLogs.toString(), renderer.getText());
+    }
+}
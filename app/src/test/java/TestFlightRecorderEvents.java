@@ -0,0 +1,54 @@
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestFlightRecorderEvents {
+
+    @Test(timeout = 20000)
+    public void testFlightRecorderEvents() throws IOException {
+        Path file = Files.createTempDirectory("jfr").resolve("games.jfr");
+        Properties properties = new Properties();
+        properties.setProperty("players.0.smartbids", "true");
+        GameConfig config = new GameConfig(properties);
+        try (Recording recording = new Recording()) {
+            for (String event : List.of("pinochle.StateTransition", "pinochle.Bid", "pinochle.TrumpSelection",
+                    "pinochle.CardSelection", "pinochle.Meld")) {
+                recording.enable(event);
+            }
+            recording.start();
+            for (int i = 0; i < 10; i++) {
+                new HeadlessPinochle(config, new RuleContext(i, false)).runApp();
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        List<RecordedEvent> cardSelections = events.stream()
+                .filter(event -> event.getEventType().getName().equals("pinochle.CardSelection"))
+                .collect(Collectors.toList());
+        assertEquals(10 * 24, cardSelections.size());
+        for (RecordedEvent event : cardSelections) {
+            assertTrue(event.getInt("candidates") >= 1);
+            assertTrue(event.getInt("candidates") <= event.getInt("handSize"));
+        }
+        // Bidding, trump selection, melding, trick taking and game over
+        assertEquals(10 * 4, events.stream()
+                .filter(event -> event.getEventType().getName().equals("pinochle.StateTransition")).count());
+        assertEquals(10, events.stream()
+                .filter(event -> event.getEventType().getName().equals("pinochle.TrumpSelection")).count());
+        assertTrue(events.stream().filter(event -> event.getEventType().getName().equals("pinochle.Bid")).count() >= 10);
+        assertTrue(events.stream().filter(event -> event.getEventType().getName().equals("pinochle.Meld")).count() >= 20);
+    }
+}
@@ -0,0 +1,101 @@
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestGameArchive {
+
+    @Test(timeout = 20000)
+    public void testArchiveScansGames() throws IOException {
+        Path file = Files.createTempDirectory("archive").resolve("games.archive");
+        GameConfig config = new GameConfig(new Properties());
+        List<HeadlessPinochle> games = new ArrayList<>();
+        // Two writers: the second one appends to the archive closed by the first
+        for (int session = 0; session < 2; session++) {
+            try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+                for (int i = 0; i < 50; i++) {
+                    HeadlessPinochle game = new HeadlessPinochle(config, new RuleContext(games.size(), false));
+                    game.getGameLogger().addEventListener(new GameArchiveRecorder(writer));
+                    game.runApp();
+                    games.add(game);
+                }
+            }
+        }
+
+        try (GameArchive archive = GameArchive.open(file)) {
+            assertEquals(100, archive.getNbGames());
+            assertEquals(2, archive.getBlocks().size());
+            int gameIndex = 0;
+            for (GameArchive.Block block : archive.getBlocks()) {
+                for (int game = 0; game < block.getNbGames(); game++, gameIndex++) {
+                    HeadlessPinochle expected = games.get(gameIndex);
+                    assertEquals(expected.getCurrentBid(), block.getBid(game));
+                    assertEquals(expected.getBidWinPlayerIndex(), block.getBidWinner(game));
+                    assertEquals(CardData.getSuitIndex(expected.getTrumpSuit()), block.getTrump(game));
+                    int winners = 0;
+                    for (int player = 0; player < 2; player++) {
+                        assertEquals(expected.getMeldScores()[player], block.getMeldScore(game, player));
+                        assertEquals(expected.getScores()[player], block.getScore(game, player));
+                        winners |= expected.getWinners().contains(player) ? 1 << player : 0;
+                    }
+                    assertEquals(winners, block.getWinners(game));
+
+                    // Every card dealt is played once, the bid winner leads and the trick winner leads next
+                    long hands = block.getHand(game, 0) | block.getHand(game, 1);
+                    assertEquals(0, block.getHand(game, 0) & block.getHand(game, 1));
+                    assertEquals(2 * block.getNbTricks(game), CardSet.size(hands));
+                    int leader = block.getBidWinner(game);
+                    for (int trick = 0; trick < block.getNbTricks(game); trick++) {
+                        int leadCard = block.getTrickCard(game, trick, 0);
+                        int followCard = block.getTrickCard(game, trick, 1);
+                        assertTrue(CardSet.contains(block.getHand(game, leader), leadCard));
+                        assertTrue(CardSet.contains(block.getHand(game, 1 - leader), followCard));
+                        hands = CardSet.remove(CardSet.remove(hands, leadCard), followCard);
+                        leader = (block.getTrickWinners(game) >> trick) & 1;
+                    }
+                    assertEquals(CardSet.EMPTY, hands);
+                }
+            }
+        }
+    }
+
+    @Test(timeout = 20000)
+    public void testArchiveSurvivesUnclosedWriter() throws IOException {
+        Path file = Files.createTempDirectory("archive").resolve("games.archive");
+        try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+            GameArchiveRecorder game = new GameArchiveRecorder(writer);
+            for (int i = 0; i < 10; i++) {
+                game.bid = i;
+                writer.append(game);
+            }
+        }
+
+        // Reopened, a full block and a few pending games appended, then dropped without close
+        GameArchiveWriter dropped = new GameArchiveWriter(file);
+        GameArchiveRecorder game = new GameArchiveRecorder(dropped);
+        for (int i = 0; i < GameArchive.BLOCK_GAMES + 5; i++) {
+            game.bid = 1000 + i;
+            dropped.append(game);
+        }
+        for (int session = 0; session < 2; session++) {
+            try (GameArchive archive = GameArchive.open(file)) {
+                assertEquals(10 + GameArchive.BLOCK_GAMES, archive.getNbGames());
+                GameArchive.Block original = archive.getBlocks().get(0);
+                for (int i = 0; i < 10; i++) {
+                    assertEquals(i, original.getBid(i));
+                }
+                GameArchive.Block appended = archive.getBlocks().get(1);
+                assertEquals(1000 + GameArchive.BLOCK_GAMES - 1, appended.getBid(GameArchive.BLOCK_GAMES - 1));
+            }
+            // The next writer goes on after the last complete block and writes the index again
+            new GameArchiveWriter(file).close();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestGameClock {
+
+    @Test(timeout = 5000)
+    public void testVirtualClockAdvancesWithoutSleeping() {
+        GameClock clock = new VirtualGameClock();
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            clock.pause(1000);
+        }
+        // A hundred seconds of pauses
+        assertEquals(100_000, clock.elapsedMillis());
+        assertEquals(100_000, clock.pausedMillis());
+        assertTrue((System.nanoTime() - start) / 1_000_000L < 1000);
+    }
+
+    @Test(timeout = 5000)
+    public void testRealTimeClockPauses() {
+        GameClock clock = new RealTimeGameClock();
+        clock.pause(50);
+        clock.pause(50);
+        assertEquals(100, clock.pausedMillis());
+        assertTrue(clock.elapsedMillis() >= 100);
+    }
+}
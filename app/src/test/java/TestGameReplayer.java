@@ -0,0 +1,32 @@
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestGameReplayer {
+
+    @Test(timeout = 10000)
+    public void testReplayAuditsLogs() throws IOException {
+        String sample;
+        try (InputStream input = getClass().getClassLoader().getResourceAsStream("sample_test1.log")) {
+            sample = new String(input.readAllBytes(), StandardCharsets.US_ASCII);
+        }
+        ReplaySummary summary = new ReplaySummary();
+        GameReplayer replayer = new GameReplayer(false, summary);
+        TextLogParser.parse(sample, replayer);
+        GameConfig config = new GameConfig(new Properties());
+        for (int i = 0; i < 100; i++) {
+            TextLogParser.parse(new HeadlessPinochle(config, new RuleContext(i, false)).runApp(), replayer);
+        }
+        assertEquals(101, summary.getNbGames());
+        assertEquals(0, summary.getNbInvalidGames());
+
+        TextLogParser.parse(sample.replace("Final Score: 74,0,", "Final Score: 84,0,"), replayer);
+        TextLogParser.parse(sample.replace("Round0:P1-1H,P0-12C,", "Round0:P1-1H,P0-9D,"), replayer);
+        assertEquals(2, summary.getNbInvalidGames());
+    }
+}
@@ -0,0 +1,48 @@
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestHandEvaluationCache {
+
+    @Test(timeout = 5000)
+    public void testHandEvaluationCache() {
+        String[] cardNames = { "1H", "1H", "10H", "13H", "12H", "11H", "13S", "12S", "9D", "11C", "9C", "12D" };
+        long hand = TestCards.handOf(cardNames);
+        long swappedHand = CardSet.EMPTY;
+        for (String cardName : cardNames) {
+            // Clubs and spades swapped, and the second copy of the nine of diamonds
+            String swappedName = cardName.endsWith("S") ? cardName.replace('S', 'C')
+                    : cardName.endsWith("C") ? cardName.replace('C', 'S') : cardName;
+            int card = TrickHelper.getCardIdFromString(CardSet.FULL & ~swappedHand, swappedName);
+            swappedHand = CardSet.add(swappedHand, cardName.equals("9D") ? card + CardSet.NB_KINDS : card);
+        }
+        assertEquals(HandEvaluationCache.getKey(hand, 1, 0b1101), HandEvaluationCache.getKey(swappedHand, 1, 0b1101));
+        assertTrue(HandEvaluationCache.getKey(hand, 1, 0) != HandEvaluationCache.getKey(swappedHand, 1, 0));
+        assertEquals(CardSet.size(hand), CardSet.size(HandEvaluationCache.canonicalize(hand, 0b1101)));
+
+        HandEvaluationCache cache = new HandEvaluationCache(16);
+        long key = HandEvaluationCache.getKey(hand, 1, 0b1101);
+        assertEquals(HandEvaluationCache.NO_VALUE, cache.get(key));
+        cache.put(key, 190);
+        assertEquals(190, cache.get(HandEvaluationCache.getKey(swappedHand, 1, 0b1101)));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        // Past the capacity entries are evicted, the cache never grows
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i);
+        }
+        assertEquals(cache.getCapacity(), cache.size());
+        assertEquals(1001 - cache.getCapacity(), cache.getEvictions());
+
+        // Trick points with hearts or diamonds as trump are shared by the two hands, not with the swapped suits as trump
+        TrumpSuitSelector selector = new TrumpSuitSelector(false, 10_000, 100, ForkJoinPool.commonPool());
+        double[] scores = selector.evaluate(new HandProfile(hand, false));
+        double[] swappedScores = selector.evaluate(new HandProfile(swappedHand, false));
+        assertEquals(scores[1], swappedScores[1], 1e-9);
+        assertEquals(2, selector.getCache().getHits());
+        assertEquals(6, selector.getCache().getMisses());
+    }
+}
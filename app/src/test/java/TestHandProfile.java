@@ -0,0 +1,30 @@
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestHandProfile {
+
+    @Test(timeout = 5000)
+    public void testHandProfile() {
+        long hand = TestCards.handOf("1H", "1H", "10H", "13H", "12H", "11H", "9H", "13S", "12S", "9D", "11C", "9C");
+        HandProfile profile = new HandProfile(hand, false);
+        assertEquals(7, profile.getSuitCount(1));
+        assertEquals(4, profile.getHighCardCount(1));
+        assertEquals(11 + 11 + 10 + 4 + 3 + 2, profile.getSuitPoints(1));
+        assertEquals(MeldScores.calculateMeldingScore(hand, "H", false), profile.getMeldScore(1));
+        assertEquals(1, profile.getNbMajoritySuits());
+        assertEquals(1, profile.getMajoritySuit(0));
+        assertEquals(1, profile.getBestHighCardSuit());
+
+        // Repeated bids on the same hand share one profile, a new hand gets a new one
+        SmartBiddingStrategy strategy = new SmartBiddingStrategy(new Random(1), 10, 20, false);
+        strategy.calculateBid(hand, 0, true);
+        HandProfile bidProfile = strategy.getHandProfile(hand);
+        strategy.calculateBid(hand, 100, false);
+        assertTrue(bidProfile == strategy.getHandProfile(hand));
+        assertTrue(bidProfile != strategy.getHandProfile(CardSet.remove(hand, CardSet.first(hand))));
+    }
+}
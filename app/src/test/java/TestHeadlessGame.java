@@ -0,0 +1,92 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestHeadlessGame {
+
+    private String runningGame(String propertiesFile) {
+        final Properties properties = PropertiesLoader.loadPropertiesFile(propertiesFile);
+        return new HeadlessPinochle(properties).runApp();
+    }
+
+    @Test(timeout = 5000)
+    public void testOriginal() {
+        String logResult = runningGame("properties/test1.properties");
+        assertTrue(logResult.contains("Bid:1-140"));
+        assertTrue(logResult.contains("Trump: C"));
+        assertTrue(logResult.contains("Melding Scores: 190-0"));
+        assertTrue(logResult.contains("Trick Winning: P0:9D,10C,12H,13H,11S,12S,11H,12C,13D,12C,13C,12S,1C,1D,1C,13D-P1:9H,10H,12H,1H,11C,13C,11S,1S"));
+        assertTrue(logResult.contains("Final Score: 268,0"));
+        assertTrue(logResult.contains("Winners: 0"));
+    }
+
+    @Test(timeout = 5000)
+    public void testNewMelding() {
+        String logResult = runningGame("properties/test2.properties");
+        assertTrue(logResult.contains("Bid:1-30"));
+        assertTrue(logResult.contains("Melding Scores: 210-30"));
+
+        logResult = runningGame("properties/test3.properties");
+        assertTrue(logResult.contains("Bid:1-30"));
+        assertTrue(logResult.contains("Melding Scores: 230-300"));
+    }
+
+    @Test(timeout = 5000)
+    public void testSmartBidding() {
+        String logResult = runningGame("properties/test4.properties");
+        assertTrue(logResult.contains("Bid:0-220"));
+        assertTrue(logResult.contains("Trump: C"));
+        assertTrue(logResult.contains("Melding Scores: 190-0"));
+    }
+
+    @Test(timeout = 5000)
+    public void testCutThroat() {
+        String logResult = runningGame("properties/test5.properties");
+        String initialCards = logResult.lines().filter(line -> line.contains("Initial Cards:")).findAny().orElse("");
+        String[] computerCards = initialCards.split("-")[1].split(",");
+        List<String> cardsToContain = new ArrayList<>(Arrays.asList("9D", "9D", "9C", "10D", "10D", "10C", "11D",
+                "11D", "11C", "12D", "12C", "13D"));
+
+        for (String computerCard : computerCards) {
+            cardsToContain.remove(computerCard);
+        }
+        assertTrue("Cards to contain should be empty", cardsToContain.isEmpty());
+    }
+
+    @Test(timeout = 10000)
+    public void testRandomGamesComplete() {
+        Properties properties = new Properties();
+        properties.setProperty("players.0.smartbids", "true");
+        properties.setProperty("mode.smarttrick", "true");
+        for (int i = 0; i < 1000; i++) {
+            HeadlessPinochle game = new HeadlessPinochle(properties);
+            String logResult = game.runApp();
+            assertEquals(12, logResult.lines().filter(line -> line.startsWith("Round")).count());
+            assertTrue(logResult.contains("Winners: "));
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testConcurrentGamesAreIsolated() {
+        Properties properties = new Properties();
+        properties.setProperty("players.0.smartbids", "true");
+        properties.setProperty("melds.additional", "true");
+        GameConfig config = new GameConfig(properties);
+
+        List<String> sequentialLogs = IntStream.range(0, 200)
+                .mapToObj(i -> new HeadlessPinochle(config, new RuleContext(i, true)).runApp())
+                .collect(Collectors.toList());
+        List<String> parallelLogs = IntStream.range(0, 200).parallel()
+                .mapToObj(i -> new HeadlessPinochle(config, new RuleContext(i, true)).runApp())
+                .collect(Collectors.toList());
+        assertEquals(sequentialLogs, parallelLogs);
+    }
+}
@@ -0,0 +1,58 @@
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TestInputMailbox {
+
+    @Test(timeout = 5000)
+    public void testPostBeforeOpenIsDropped() {
+        InputMailbox<Integer> mailbox = new InputMailbox<>();
+        assertFalse(mailbox.post(1));
+        mailbox.open();
+        assertTrue(mailbox.post(2));
+        assertEquals(2, (int) mailbox.take());
+    }
+
+    @Test(timeout = 5000)
+    public void testFirstPostAfterOpenWins() {
+        InputMailbox<Integer> mailbox = new InputMailbox<>();
+        mailbox.open();
+        assertTrue(mailbox.post(1));
+        assertFalse(mailbox.post(2));
+        assertEquals(1, (int) mailbox.take());
+
+        // Opening again waits for a new decision
+        mailbox.open();
+        assertTrue(mailbox.post(3));
+        assertEquals(3, (int) mailbox.take());
+    }
+
+    @Test(timeout = 5000)
+    public void testTakeWakesAtOnce() throws InterruptedException {
+        InputMailbox<String> mailbox = new InputMailbox<>();
+        mailbox.open();
+        long[] postTime = new long[1];
+        Thread poster = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            postTime[0] = System.nanoTime();
+            mailbox.post("10H");
+        });
+        poster.start();
+        assertEquals("10H", mailbox.take());
+        long wakeUpMillis = (System.nanoTime() - postTime[0]) / 1_000_000L;
+        poster.join();
+        // No polling: the game thread wakes up well before a polling period would end
+        assertTrue("Woke up after " + wakeUpMillis + " ms", wakeUpMillis < 50);
+    }
+
+    @Test(timeout = 5000, expected = IllegalStateException.class)
+    public void testTakeBeforeOpenFails() {
+        new InputMailbox<Integer>().take();
+    }
+}
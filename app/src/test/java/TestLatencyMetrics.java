@@ -0,0 +1,40 @@
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestLatencyMetrics {
+
+    @Test(timeout = 10000)
+    public void testLatencyMetricsPerPhaseAndStrategy() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long nanos = 1; nanos <= 100_000; nanos++) {
+            histogram.record(nanos);
+        }
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(100_000, histogram.getMax());
+        assertEquals(50_000, histogram.getPercentile(0.5), 50_000 * 0.04);
+        assertEquals(99_000, histogram.getPercentile(0.99), 99_000 * 0.04);
+
+        TournamentRunner runner = new TournamentRunner(new Properties(),
+                BiddingStrategyFactory.SMART_BIDDING, BiddingStrategyFactory.RANDOM_BIDDING, 100, 4);
+        runner.run();
+        LatencyMetrics metrics = runner.getLatencyMetrics();
+        for (String phase : List.of("Bidding", "Trump Selection", "Melding", "Trick Taking", "Game Over")) {
+            assertEquals(100, metrics.getPhase(phase).getCount());
+        }
+        long selectCardCalls = metrics.getStrategyCalls().entrySet().stream()
+                .filter(entry -> entry.getKey().endsWith(".selectCard"))
+                .mapToLong(entry -> entry.getValue().getCount())
+                .sum();
+        assertEquals(100 * 24, selectCardCalls);
+        assertTrue(metrics.getStrategyCalls().containsKey("SmartBiddingStrategy.calculateBid"));
+        for (LatencyHistogram calls : metrics.getStrategyCalls().values()) {
+            assertTrue(calls.getPercentile(0.5) <= calls.getPercentile(0.99));
+            assertTrue(calls.getPercentile(0.99) <= calls.getMax());
+        }
+    }
+}
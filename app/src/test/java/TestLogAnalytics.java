@@ -0,0 +1,54 @@
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestLogAnalytics {
+
+    @Test(timeout = 20000)
+    public void testLogAnalyticsSplitsFiles() throws IOException {
+        Path file = Files.createTempDirectory("analytics").resolve("games.log");
+        GameConfig config = new GameConfig(new Properties());
+        StringBuilder log = new StringBuilder();
+        int[] bidsWon = new int[2];
+        int[] bidsMade = new int[2];
+        int[] wins = new int[2];
+        for (int i = 0; i < 200; i++) {
+            HeadlessPinochle game = new HeadlessPinochle(config, new RuleContext(i, false));
+            log.append(game.runApp()).append('\n');
+            int bidWinner = game.getBidWinPlayerIndex();
+            bidsWon[bidWinner]++;
+            bidsMade[bidWinner] += game.getScores()[bidWinner] >= game.getCurrentBid() ? 1 : 0;
+            if (game.getWinners().size() == 1) {
+                wins[game.getWinners().get(0)]++;
+            }
+        }
+        Files.write(file, log.toString().getBytes(StandardCharsets.US_ASCII));
+
+        // Chunks of a few games each against the file as a single chunk
+        LogStatistics chunked = new LogAnalyticsRunner(4, 2048).analyze(List.of(file));
+        LogStatistics whole = new LogAnalyticsRunner(1, Long.MAX_VALUE).analyze(List.of(file));
+        assertEquals(200, chunked.getNbGames());
+        assertEquals(0, chunked.getNbUnreadableChunks());
+        for (int seat = 0; seat < 2; seat++) {
+            assertEquals((double) bidsMade[seat] / bidsWon[seat], chunked.getBidSuccessRate(seat), 1e-9);
+            assertEquals(wins[seat] / 200.0, chunked.getWinRate(seat), 1e-9);
+        }
+        long tricks = 0;
+        for (int kind = 0; kind < CardSet.NB_KINDS; kind++) {
+            assertEquals(whole.getTricksWon(kind), chunked.getTricksWon(kind));
+            assertEquals(whole.getTrickPoints(kind), chunked.getTrickPoints(kind));
+            tricks += chunked.getTricksWon(kind);
+        }
+        assertEquals(200 * 12, tricks);
+        for (int trump = 0; trump < CardData.NB_SUITS; trump++) {
+            assertEquals(whole.getAverageMeld(trump), chunked.getAverageMeld(trump), 1e-9);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestMeldScores {
+
+    @Test(timeout = 5000)
+    public void testEdgeHands() {
+        // Additional melds, hearts as trump, scores worked out from the greedy order of the melds
+        String[] doubleRun = { "1H", "1H", "10H", "10H", "13H", "13H", "12H", "12H", "11H", "11H" };
+        assertEquals(1500, score(true, "H", doubleRun, "9S", "9C"));
+        // Dix is scored once even with both nines of trumps
+        assertEquals(1510, score(true, "H", doubleRun, "9H", "9H"));
+        // The double pinochle takes both queens of spades, none is left for the spade marriage
+        assertEquals(300, score(true, "H", new String[] { "11D", "11D", "12S", "12S" }, "13S"));
+        assertEquals(40 + 20, score(true, "H", new String[] { "11D", "12S", "12S" }, "13S"));
+        // Both spade marriages
+        assertEquals(40, score(true, "H", new String[] { "13S", "12S", "13S", "12S" }));
+        // Jacks abound takes both jacks of diamonds before the double pinochle
+        assertEquals(400, score(true, "H", new String[] { "11S", "11S", "11H", "11H", "11D", "11D", "11C", "11C" },
+                "12S", "12S"));
+        // The run takes the ace of trumps before aces around
+        assertEquals(150, score(true, "H", new String[] { "1S", "1H", "1D", "1C" }, "10H", "13H", "12H", "11H"));
+        assertEquals(100 + 40, score(true, "H", new String[] { "1S", "1H", "1D", "1C" }, "13H", "12H"));
+        assertEquals(230, score(true, "H", new String[] { "1H", "10H", "13H", "13H", "12H", "12H", "11H" }));
+
+        // Original melds: only runs and the royal marriage
+        assertEquals(190, score(false, "H", doubleRun));
+        assertEquals(190, score(false, "H", new String[] { "1H", "10H", "13H", "13H", "12H", "11H" }));
+        assertEquals(150 + 40, score(false, "H", new String[] { "1H", "10H", "13H", "12H", "11H" }, "13H", "9H"));
+        assertEquals(0, score(false, "H", new String[] { "1S", "1H", "1D", "1C", "11D", "12S", "13S", "12S" }));
+        assertEquals(0, score(true, "H", new String[0]));
+    }
+
+    @Test(timeout = 20000)
+    public void testMatchesBaselineScorer() {
+        Random random = new Random(5);
+        for (int i = 0; i < 5000; i++) {
+            // Hands dealt from the whole deck rarely meld, so most are dealt from a few suits or ranks
+            long pool = switch (i % 4) {
+                case 0 -> CardSet.FULL;
+                case 1 -> CardSet.suitMask(random.nextInt(4)) | CardSet.suitMask(random.nextInt(4));
+                case 2 -> CardSet.suitMask(random.nextInt(4)) | randomKinds(random, 0x0F0F0FL);
+                default -> randomKinds(random, 0x555555L) | randomKinds(random, 0x555555L << 1);
+            };
+            List<Integer> cards = new ArrayList<>(CardSet.toList(pool));
+            Collections.shuffle(cards, random);
+            long hand = CardSet.of(cards.subList(0, Math.min(cards.size(), 1 + random.nextInt(20))));
+
+            for (boolean useAdditionalMelds : new boolean[] { false, true }) {
+                for (int suitIndex = 0; suitIndex < CardData.NB_SUITS; suitIndex++) {
+                    String trumpSuit = Suit.values()[suitIndex].getSuitShortHand();
+                    assertEquals(baselineScore(hand, trumpSuit, useAdditionalMelds),
+                            MeldScores.calculateMeldingScore(hand, trumpSuit, useAdditionalMelds));
+                }
+            }
+        }
+    }
+
+    private static int score(boolean useAdditionalMelds, String trumpSuit, String[] cardNames, String... moreCardNames) {
+        String[] allNames = Arrays.copyOf(cardNames, cardNames.length + moreCardNames.length);
+        System.arraycopy(moreCardNames, 0, allNames, cardNames.length, moreCardNames.length);
+        long hand = TestCards.handOf(allNames);
+        int score = MeldScores.calculateMeldingScore(hand, trumpSuit, useAdditionalMelds);
+        assertEquals(baselineScore(hand, trumpSuit, useAdditionalMelds), score);
+        return score;
+    }
+
+    /**
+     * Both copies of the kinds of the mask, each kind kept with even chance
+     */
+    private static long randomKinds(Random random, long kindMask) {
+        long kinds = random.nextLong() & kindMask;
+        return kinds | kinds << CardSet.NB_KINDS;
+    }
+
+    /**
+     * The scorer before MeldTemplate: the melds of the factory are matched greedily on card names,
+     * removing the cards of every meld scored
+     */
+    private static int baselineScore(long hand, String trumpSuit, boolean useAdditionalMelds) {
+        MeldFactory factory = useAdditionalMelds ? new ExtendedMeldFactory() : new OriginalMeldFactory();
+        List<String> remainingCards = new ArrayList<>();
+        for (int card : CardSet.toList(hand)) {
+            remainingCards.add(CardData.getCardName(card));
+        }
+
+        int totalScore = 0;
+        for (Meld meld : factory.createMelds(trumpSuit)) {
+            if (meld.getName().equals("Common Marriage")) {
+                for (Suit suit : Suit.values()) {
+                    String shorthand = suit.getSuitShortHand();
+                    if (!shorthand.equals(trumpSuit)) {
+                        List<String> cardsToCheck = Arrays.asList(
+                                Rank.KING.getRankCardValue() + shorthand,
+                                Rank.QUEEN.getRankCardValue() + shorthand);
+                        if (removeAll(remainingCards, cardsToCheck)) {
+                            totalScore += meld.getScore();
+                        }
+                    }
+                }
+            } else if (removeAll(remainingCards, meld.getCards())) {
+                totalScore += meld.getScore();
+            }
+        }
+        return totalScore;
+    }
+
+    /**
+     * Removes the cards when they are all there
+     */
+    private static boolean removeAll(List<String> cards, List<String> cardsToRemove) {
+        List<String> remaining = new ArrayList<>(cards);
+        for (String card : cardsToRemove) {
+            if (!remaining.remove(card)) {
+                return false;
+            }
+        }
+        cards.clear();
+        cards.addAll(remaining);
+        return true;
+    }
+}
@@ -0,0 +1,45 @@
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestMonteCarloBidding {
+
+    @Test(timeout = 20000)
+    public void testMonteCarloBiddingEvaluatesHands() {
+        long spades = CardSet.suitMask("S");
+        long weakHand = TestCards.handOf("9H", "9H", "11H", "9D", "9D", "11D", "12D", "9C", "9C", "11C", "12C", "10C");
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        ForkJoinPool widePool = new ForkJoinPool(5);
+        try {
+            MonteCarloHandEvaluator evaluator = new MonteCarloHandEvaluator(false, 10_000, 1000, pool);
+            MonteCarloHandEvaluator.Evaluation evaluation = evaluator.evaluate(spades, 1);
+            assertEquals(1000, evaluation.getNbSamples());
+            assertEquals(0, evaluation.getBestTrumpIndex());
+            // Every trick is won with the whole suit as trump
+            assertEquals(1.0, evaluation.getProbabilityOfReaching(0, evaluation.getMeldScore(0) + 100), 0);
+            // The same seed samples the same deals whatever the threads do
+            assertEquals(evaluation.getExpectedPoints(1), evaluator.evaluate(spades, 1).getExpectedPoints(1), 0);
+            // and on any number of threads
+            MonteCarloHandEvaluator wideEvaluator = new MonteCarloHandEvaluator(false, RuleContext.NO_TIME_BUDGET, 1000, widePool);
+            MonteCarloHandEvaluator.Evaluation wideEvaluation = wideEvaluator.evaluate(weakHand, 1);
+            for (int suitIndex = 0; suitIndex < CardData.NB_SUITS; suitIndex++) {
+                assertEquals(evaluator.evaluate(weakHand, 1).getExpectedPoints(suitIndex),
+                        wideEvaluation.getExpectedPoints(suitIndex), 0);
+            }
+
+            MonteCarloBiddingStrategy strategy = new MonteCarloBiddingStrategy(new Random(1),
+                    BiddingManager.BID_SELECTION_VALUE, BiddingManager.MAX_SINGLE_BID, false, evaluator,
+                    MonteCarloBiddingStrategy.DEFAULT_REQUIRED_PROBABILITY);
+            assertEquals(BiddingManager.BID_SELECTION_VALUE, strategy.calculateBid(spades, 200, false));
+            assertEquals("S", strategy.determineLikelyTrumpSuit(spades));
+            assertEquals(0, strategy.calculateBid(weakHand, 100, false));
+        } finally {
+            pool.shutdown();
+            widePool.shutdown();
+        }
+    }
+}
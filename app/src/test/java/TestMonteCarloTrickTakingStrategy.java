@@ -0,0 +1,61 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestMonteCarloTrickTakingStrategy {
+
+    @Test(timeout = 10000)
+    public void testMonteCarloAnswersAtDeadline() {
+        // No time at all still gives a valid card from at least one playout per candidate
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Random random = new Random(30008);
+            TrickTakingStrategy strategy = new MonteCarloTrickTakingStrategy(random, 0, MonteCarloTrickTakingStrategy.DEFAULT_MAX_SAMPLES, pool);
+            for (int i = 0; i < 200; i++) {
+                List<Integer> deck = new ArrayList<>(CardSet.toList(CardSet.FULL));
+                Collections.shuffle(deck, random);
+                long hand = CardSet.of(deck.subList(0, 1 + random.nextInt(12)));
+                List<Integer> playingArea = random.nextBoolean() ? List.of(deck.get(40)) : List.of();
+                String trumpSuit = Suit.values()[random.nextInt(4)].getSuitShortHand();
+
+                int card = strategy.selectCard(hand, playingArea, trumpSuit, CardSet.EMPTY, 0, 0, 0);
+                long validCards = TrickHelper.getValidCards(hand, TrickHelper.getLeadCard(playingArea), trumpSuit);
+                assertTrue(CardSet.contains(validCards, card));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testMonteCarloStopsAtSampleCount() {
+        // A long time budget isn't waited for, and the samples don't depend on the number of threads
+        ForkJoinPool singlePool = new ForkJoinPool(1);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            TrickTakingStrategy single = new MonteCarloTrickTakingStrategy(new Random(30008), 60_000, 50, singlePool);
+            TrickTakingStrategy parallel = new MonteCarloTrickTakingStrategy(new Random(30008), 60_000, 50, pool);
+            Random random = new Random(42);
+            for (int i = 0; i < 50; i++) {
+                List<Integer> deck = new ArrayList<>(CardSet.toList(CardSet.FULL));
+                Collections.shuffle(deck, random);
+                long hand = CardSet.of(deck.subList(0, 1 + random.nextInt(12)));
+                List<Integer> playingArea = random.nextBoolean() ? List.of(deck.get(40)) : List.of();
+                String trumpSuit = Suit.values()[random.nextInt(4)].getSuitShortHand();
+
+                assertEquals(single.selectCard(hand, playingArea, trumpSuit, CardSet.EMPTY, 0, 0, 0),
+                        parallel.selectCard(hand, playingArea, trumpSuit, CardSet.EMPTY, 0, 0, 0));
+            }
+        } finally {
+            singlePool.shutdown();
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class TestSmartTrickTakingStrategy {
+
+    @Test(timeout = 5000)
+    public void testSmartTrickTakingTracksPlayedCards() {
+        long hand = TestCards.handOf("13S", "9H");
+        long playedCards = TestCards.handOf("1S", "1S", "10S", "10S");
+        int king = TrickHelper.getCardIdFromString(hand, "13S");
+        SmartTrickTakingStrategy strategy = new SmartTrickTakingStrategy();
+        // The king of spades is a sure winner once both aces and tens are out, whatever was recorded
+        assertEquals(king, strategy.selectCard(hand, List.of(), "D", playedCards, 1, 0, 0));
+        strategy.recordPlayedCard(king);
+        strategy.recordPlayedCard(king);
+        assertEquals(king, strategy.selectCard(hand, List.of(), "D", playedCards, 1, 0, 0));
+        assertEquals(TrickHelper.getCardIdFromString(hand, "9H"),
+                strategy.selectCard(hand, List.of(), "D", CardSet.EMPTY, 1, 0, 0));
+    }
+}
@@ -0,0 +1,73 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestTournamentRunner {
+
+    @Test(timeout = 10000)
+    public void testTournamentRotatesSeats() {
+        TournamentRunner runner = new TournamentRunner(new Properties(),
+                BiddingStrategyFactory.SMART_BIDDING, BiddingStrategyFactory.RANDOM_BIDDING, 200, 2);
+        TournamentSummary summary = runner.run();
+        assertEquals(200, summary.getNbGames());
+        for (int player = 0; player < 2; player++) {
+            TournamentSummary.PlayerStats stats = summary.getStats(player);
+            assertEquals(200, stats.getGames());
+            assertTrue(stats.getBidsMade() <= stats.getBidsWon());
+        }
+        assertEquals(200, summary.getStats(0).getBidsWon() + summary.getStats(1).getBidsWon());
+    }
+
+    @Test(timeout = 10000)
+    public void testMasterSeedReproducesTournament() {
+        List<String> results = new ArrayList<>();
+        for (int parallelism : new int[] { 1, 4, 4 }) {
+            TournamentRunner runner = new TournamentRunner(new Properties(),
+                    BiddingStrategyFactory.RANDOM_BIDDING, BiddingStrategyFactory.RANDOM_BIDDING, 300, parallelism);
+            runner.setMasterSeed(results.size() < 2 ? 42 : 43);
+            results.add(getResults(runner.run()));
+        }
+        // The same master seed gives the same games whatever the scheduling, another seed other games
+        assertEquals(results.get(0), results.get(1));
+        assertTrue(!results.get(0).equals(results.get(2)));
+
+        // A seat's stream doesn't depend on what the other streams drew
+        RuleContext rules = RuleContext.forGame(42, 7, false);
+        long first = rules.getRandom(RuleContext.BIDDING_STREAM, 1).nextLong();
+        rules.getRandom(RuleContext.BIDDING_STREAM, 0).nextLong();
+        assertEquals(first, rules.getRandom(RuleContext.BIDDING_STREAM, 1).nextLong());
+        assertTrue(first != rules.getRandom(RuleContext.TRICK_TAKING_STREAM, 1).nextLong());
+    }
+
+    @Test(timeout = 60000)
+    public void testMasterSeedReproducesSearchingTournament() {
+        // Sampling searches play the same games on any number of threads
+        Properties properties = new Properties();
+        properties.setProperty("mode.cutthroat", "true");
+        properties.setProperty("mode.smartdiscard", "true");
+        List<String> results = new ArrayList<>();
+        for (int parallelism : new int[] { 1, 3 }) {
+            TournamentRunner runner = new TournamentRunner(properties, "montecarlo:montecarlo", "smart:montecarlo",
+                    6, parallelism);
+            runner.setMasterSeed(42);
+            results.add(getResults(runner.run()));
+        }
+        assertEquals(results.get(0), results.get(1));
+    }
+
+    private static String getResults(TournamentSummary summary) {
+        StringBuilder result = new StringBuilder();
+        for (int player = 0; player < 2; player++) {
+            TournamentSummary.PlayerStats stats = summary.getStats(player);
+            result.append(stats.getWins()).append(' ').append(stats.getAverageScore()).append(' ')
+                    .append(stats.getAverageMeldScore()).append(' ').append(stats.getBidsWon()).append(' ')
+                    .append(stats.getBidsMade()).append(' ');
+        }
+        return result.toString();
+    }
+}
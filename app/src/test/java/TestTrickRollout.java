@@ -0,0 +1,25 @@
+import org.junit.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestTrickRollout {
+
+    @Test(timeout = 5000)
+    public void testTrickRolloutTreatsSideSuitsAlike() {
+        // No diamond and no heart (trumps) to follow the diamond lead: the spade and club nines are the same card
+        long hand = TestCards.handOf("9S", "9C", "13S");
+        TrickRollout rollout = new TrickRollout("H");
+        int lead = TrickHelper.getCardIdFromString(CardSet.FULL, "1D");
+        SplittableRandom random = new SplittableRandom(1);
+        int nbSpades = 0;
+        for (int i = 0; i < 1000; i++) {
+            int card = rollout.selectFollowingCard(hand, lead, random);
+            assertEquals(0, rollout.getCardScore(card));
+            nbSpades += CardData.getSuitIndex(card) == 0 ? 1 : 0;
+        }
+        assertTrue(nbSpades > 400 && nbSpades < 600);
+    }
+}
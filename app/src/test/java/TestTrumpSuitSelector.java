@@ -0,0 +1,32 @@
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TestTrumpSuitSelector {
+
+    @Test(timeout = 10000)
+    public void testTrumpSuitSelector() {
+        long hand = TestCards.handOf("1H", "1H", "10H", "13H", "12H", "11H", "9H", "13S", "12S", "9D", "11C", "9C");
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            TrumpSuitSelector selector = new TrumpSuitSelector(false, 10_000, 500, pool);
+            assertEquals("H", selector.selectTrumpSuit(hand));
+            // Finished evaluations are cached by hand and trump suit and don't depend on the thread that ran them
+            double[] scores = selector.evaluate(new HandProfile(hand, false));
+            assertEquals(4, selector.getCacheSize());
+            assertTrue(Arrays.equals(scores, new TrumpSuitSelector(false, 10_000, 500, pool).evaluate(new HandProfile(hand, false))));
+            assertTrue(scores[1] >= MeldScores.calculateMeldingScore(hand, "H", false));
+
+            // Out of time every suit still gets a sample, and the partial result isn't cached
+            TrumpSuitSelector hurried = new TrumpSuitSelector(false, 0, 500, pool);
+            assertEquals(4, hurried.evaluate(new HandProfile(hand, false)).length);
+            assertEquals(0, hurried.getCacheSize());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}